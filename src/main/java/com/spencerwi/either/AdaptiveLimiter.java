@@ -0,0 +1,136 @@
+package com.spencerwi.either;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Like a {@link Bulkhead}, limits how many attempts against a dependency may
+ *  run at once, but learns the limit from how the dependency responds instead
+ *  of taking a fixed one.
+ *
+ * The limit follows an additive-increase/multiplicative-decrease (AIMD)
+ *  policy: each attempt that returns `Ok` within the latency threshold while
+ *  the limit is being used raises the limit by `1 / limit` (so, by about one
+ *  per round of calls), and each attempt that returns an `Err` or takes
+ *  longer than the threshold multiplies it by the backoff ratio. The limit
+ *  therefore climbs while the dependency keeps up, and drops quickly once it
+ *  starts to queue or fail.
+ *
+ * Attempts beyond the current limit are rejected straight away, without
+ *  running, with an `Err` wrapping an {@link AttemptRejectedException}.
+ *  Rejections do not count as failures.
+ *
+ * An `AdaptiveLimiter` is meant to be shared by every caller of the
+ *  dependency it protects.
+ */
+public final class AdaptiveLimiter {
+    public static final double DEFAULT_BACKOFF_RATIO = 0.9;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final long latencyThresholdNanos;
+    private final double backoffRatio;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final LongAdder rejected = new LongAdder();
+    private volatile double limit;
+
+    private AdaptiveLimiter(double initialLimit, int minLimit, int maxLimit, long latencyThresholdNanos, double backoffRatio) {
+        this.limit = initialLimit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.latencyThresholdNanos = latencyThresholdNanos;
+        this.backoffRatio = backoffRatio;
+    }
+
+    /**
+     * @param initialLimit the limit to start from.
+     * @param minLimit the lowest the limit may fall to; at least 1.
+     * @param maxLimit the highest the limit may climb to.
+     * @param latencyThreshold attempts slower than this count as a sign of overload, even if they succeed.
+     * @return an AIMD limiter that backs off by {@link #DEFAULT_BACKOFF_RATIO}.
+     */
+    public static AdaptiveLimiter aimd(int initialLimit, int minLimit, int maxLimit, Duration latencyThreshold) {
+        return aimd(initialLimit, minLimit, maxLimit, latencyThreshold, DEFAULT_BACKOFF_RATIO);
+    }
+
+    /**
+     * @param initialLimit the limit to start from.
+     * @param minLimit the lowest the limit may fall to; at least 1.
+     * @param maxLimit the highest the limit may climb to.
+     * @param latencyThreshold attempts slower than this count as a sign of overload, even if they succeed.
+     * @param backoffRatio what to multiply the limit by on each sign of overload, between 0 and 1 (exclusive).
+     * @return an AIMD limiter.
+     */
+    public static AdaptiveLimiter aimd(int initialLimit, int minLimit, int maxLimit, Duration latencyThreshold, double backoffRatio) {
+        if (minLimit < 1 || maxLimit < minLimit || initialLimit < minLimit || initialLimit > maxLimit) {
+            throw new IllegalArgumentException("limits must satisfy 1 <= minLimit <= initialLimit <= maxLimit");
+        }
+        if (latencyThreshold.isNegative() || latencyThreshold.isZero()) {
+            throw new IllegalArgumentException("latencyThreshold must be positive");
+        }
+        if (!(backoffRatio > 0 && backoffRatio < 1)) {
+            throw new IllegalArgumentException("backoffRatio must be between 0 and 1");
+        }
+        return new AdaptiveLimiter(initialLimit, minLimit, maxLimit, latencyThreshold.toNanos(), backoffRatio);
+    }
+
+    /**
+     * Runs `resultSupplier` like {@link Result#attempt} if fewer than {@link #currentLimit()} attempts are in flight;
+     *  otherwise, rejects it.
+     * @return the outcome of `resultSupplier`, or an `Err` wrapping an {@link AttemptRejectedException} if it was rejected.
+     */
+    public <R> Result<R> attempt(ExceptionThrowingSupplier<R> resultSupplier) {
+        int limitNow = currentLimit();
+        int running;
+        do {
+            running = inFlight.get();
+            if (running >= limitNow) {
+                rejected.increment();
+                return Result.err(new AttemptRejectedException("Adaptive limit reached: " + limitNow + " attempts already in flight"));
+            }
+        } while (!inFlight.compareAndSet(running, running + 1));
+
+        long start = System.nanoTime();
+        Result<R> result = null;
+        try {
+            result = Result.attempt(resultSupplier);
+            return result;
+        } finally {
+            inFlight.decrementAndGet();
+            // An Error escaping the supplier counts against the dependency, too.
+            boolean overloaded = result == null || result.isErr() || System.nanoTime() - start > latencyThresholdNanos;
+            onSample(overloaded, running + 1, limitNow);
+        }
+    }
+
+    private synchronized void onSample(boolean overloaded, int inFlightDuringAttempt, int limitDuringAttempt) {
+        if (overloaded) {
+            limit = Math.max(minLimit, limit * backoffRatio);
+        } else if (inFlightDuringAttempt * 2 >= limitDuringAttempt) {
+            // Only grow while the limit is actually being used; idle capacity says nothing about the dependency.
+            limit = Math.min(maxLimit, limit + 1.0 / limit);
+        }
+    }
+
+    /**
+     * @return the number of attempts that may currently run at once.
+     */
+    public int currentLimit() {
+        return (int) limit;
+    }
+
+    /**
+     * @return the number of attempts currently running.
+     */
+    public int inFlight() {
+        return inFlight.get();
+    }
+
+    /**
+     * @return the total number of attempts rejected so far.
+     */
+    public long rejectedCount() {
+        return rejected.sum();
+    }
+}
@@ -0,0 +1,30 @@
+package com.spencerwi.either;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Wrapped in an `Err` when every one of several alternative attempts failed.
+ *  Each individual failure is available from {@link #getFailures}, in the
+ *  order the failures were observed, and is also attached as a suppressed
+ *  exception so that it shows up in stack traces.
+ */
+public class AllAttemptsFailedException extends Exception {
+    private final List<Exception> failures;
+
+    public AllAttemptsFailedException(List<Exception> failures) {
+        super("All " + failures.size() + " attempts failed");
+        this.failures = Collections.unmodifiableList(new ArrayList<>(failures));
+        for (Exception failure : failures) {
+            this.addSuppressed(failure);
+        }
+    }
+
+    /**
+     * @return every failure that contributed to this exception, in the order they were observed.
+     */
+    public List<Exception> getFailures() {
+        return failures;
+    }
+}
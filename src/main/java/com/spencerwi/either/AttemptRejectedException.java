@@ -0,0 +1,15 @@
+package com.spencerwi.either;
+
+/**
+ * Wrapped in an `Err` when an attempt was turned away without running, for
+ *  example because too many other attempts were already in flight.
+ *
+ * Rejections are expected to happen in bursts when a dependency is
+ *  overloaded, so this exception does not capture a stack trace; the message
+ *  says what rejected the attempt and why.
+ */
+public class AttemptRejectedException extends Exception {
+    public AttemptRejectedException(String message) {
+        super(message, null, false, false);
+    }
+}
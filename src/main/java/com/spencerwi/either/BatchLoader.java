@@ -0,0 +1,207 @@
+package com.spencerwi.either;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Collects lookups of individual keys into batches and loads each batch with
+ *  a single call to a bulk function, so that many one-at-a-time lookups cost
+ *  a few round trips to the backend instead of one each:
+ *
+ *     BatchLoader<Long, User> users = BatchLoader.of(repo::findAllById, 100, Duration.ofMillis(2), scheduler);
+ *     CompletableFuture<Result<User>> user = users.load(id);
+ *
+ * A batch is dispatched as soon as it holds `maxBatchSize` distinct keys, or
+ *  once `window` has passed since its first key was added, whichever comes
+ *  first; {@link #dispatch} sends the current batch straight away. Lookups of
+ *  a key that is already waiting in the current batch share its result. Bulk
+ *  calls run on the scheduler, never on the caller's thread.
+ *
+ * Each lookup completes with its own `Result`: an `Ok` with the value the bulk
+ *  function returned for its key, or an `Err` wrapping a
+ *  {@link NoSuchElementException} if the returned map has no entry for it. If
+ *  the bulk call itself fails, every lookup in that batch gets an `Err`
+ *  wrapping that same exception. If the scheduler rejects a batch, or the
+ *  timer for its window, its lookups get an `Err` wrapping an
+ *  {@link AttemptRejectedException}.
+ *
+ * A `BatchLoader` is meant to be shared by every caller, and does not cache
+ *  values between batches.
+ * @param <K> the key type; it must have a sensible equals/hashCode.
+ * @param <V> the value type.
+ */
+public final class BatchLoader<K, V> {
+    private final ExceptionThrowingFunction<List<K>, Map<K, V>> bulkLoad;
+    private final int maxBatchSize;
+    private final long windowNanos;
+    private final ScheduledExecutorService scheduler;
+    private final LongAdder batches = new LongAdder();
+    private Map<K, CompletableFuture<Result<V>>> pending = new LinkedHashMap<>();
+    private ScheduledFuture<?> windowTimer;
+
+    private BatchLoader(ExceptionThrowingFunction<List<K>, Map<K, V>> bulkLoad, int maxBatchSize, long windowNanos, ScheduledExecutorService scheduler) {
+        this.bulkLoad = bulkLoad;
+        this.maxBatchSize = maxBatchSize;
+        this.windowNanos = windowNanos;
+        this.scheduler = scheduler;
+    }
+
+    /**
+     * @param bulkLoad loads the values for a list of distinct keys; keys it has no value for may be left out of the map.
+     * @param maxBatchSize the most keys to load in one bulk call.
+     * @param window the longest a lookup waits for others to join its batch.
+     * @param scheduler times the window, and runs the bulk calls.
+     */
+    public static <K, V> BatchLoader<K, V> of(
+            ExceptionThrowingFunction<List<K>, Map<K, V>> bulkLoad, int maxBatchSize, Duration window,
+            ScheduledExecutorService scheduler
+    ) {
+        if (maxBatchSize < 1) {
+            throw new IllegalArgumentException("maxBatchSize must be at least 1");
+        }
+        if (window.isNegative()) {
+            throw new IllegalArgumentException("window must not be negative");
+        }
+        return new BatchLoader<>(bulkLoad, maxBatchSize, window.toNanos(), scheduler);
+    }
+
+    /**
+     * Adds `key` to the current batch.
+     * @return a future that completes with the value for `key` once its batch has been loaded.
+     */
+    public CompletableFuture<Result<V>> load(K key) {
+        CompletableFuture<Result<V>> future;
+        Map<K, CompletableFuture<Result<V>>> full = null;
+        Map<K, CompletableFuture<Result<V>>> rejected = null;
+        synchronized (this) {
+            future = pending.get(key);
+            if (future != null) {
+                return future;
+            }
+            future = new CompletableFuture<>();
+            pending.put(key, future);
+            if (pending.size() >= maxBatchSize) {
+                full = takeBatch();
+            } else if (pending.size() == 1 && !startWindow(pending)) {
+                // With no timer, nothing would ever send this batch if it never fills.
+                rejected = takeBatch();
+            }
+        }
+        if (full != null) {
+            submit(full);
+        }
+        if (rejected != null) {
+            reject(rejected);
+        }
+        return future;
+    }
+
+    /**
+     * Like {@link #load}, but waits for the batch to be loaded.
+     * @return the value for `key`.
+     */
+    public Result<V> get(K key) {
+        return load(key).join();
+    }
+
+    /**
+     * Sends the current batch to be loaded now, without waiting for it to fill or for its window to pass.
+     */
+    public void dispatch() {
+        Map<K, CompletableFuture<Result<V>>> batch;
+        synchronized (this) {
+            if (pending.isEmpty()) {
+                return;
+            }
+            batch = takeBatch();
+        }
+        submit(batch);
+    }
+
+    /**
+     * @return the number of bulk calls made so far.
+     */
+    public long batchCount() {
+        return batches.sum();
+    }
+
+    /**
+     * @return false if the scheduler rejected the window timer.
+     */
+    private boolean startWindow(Map<K, CompletableFuture<Result<V>>> batch) {
+        try {
+            windowTimer = scheduler.schedule(() -> dispatchIfStillPending(batch), windowNanos, TimeUnit.NANOSECONDS);
+            return true;
+        } catch (RejectedExecutionException e) {
+            windowTimer = null;
+            return false;
+        }
+    }
+
+    private void dispatchIfStillPending(Map<K, CompletableFuture<Result<V>>> batch) {
+        synchronized (this) {
+            // The batch may already have filled up and been sent; a later batch has its own window.
+            if (pending != batch) {
+                return;
+            }
+            takeBatch();
+        }
+        runBatch(batch);
+    }
+
+    private Map<K, CompletableFuture<Result<V>>> takeBatch() {
+        Map<K, CompletableFuture<Result<V>>> taken = pending;
+        pending = new LinkedHashMap<>();
+        if (windowTimer != null) {
+            windowTimer.cancel(false);
+            windowTimer = null;
+        }
+        return taken;
+    }
+
+    private void submit(Map<K, CompletableFuture<Result<V>>> batch) {
+        try {
+            scheduler.execute(() -> runBatch(batch));
+        } catch (RejectedExecutionException e) {
+            reject(batch);
+        }
+    }
+
+    private void reject(Map<K, CompletableFuture<Result<V>>> batch) {
+        Result<V> rejected = Result.err(new AttemptRejectedException("Batch of " + batch.size() + " keys rejected by scheduler"));
+        batch.values().forEach(future -> future.complete(rejected));
+    }
+
+    private void runBatch(Map<K, CompletableFuture<Result<V>>> batch) {
+        batches.increment();
+        try {
+            List<K> keys = new ArrayList<>(batch.keySet());
+            Result<Map<K, V>> loaded = Result.attempt(() -> bulkLoad.apply(keys));
+            if (loaded.isErr()) {
+                Result<V> failed = Result.err(loaded.getException());
+                batch.values().forEach(future -> future.complete(failed));
+                return;
+            }
+            Map<K, V> values = loaded.getResult();
+            batch.forEach((key, future) -> future.complete(
+                    (values != null && values.containsKey(key))
+                            ? Result.ok(values.get(key))
+                            : Result.err(new NoSuchElementException("No value loaded for key: " + key))
+            ));
+        } catch (RuntimeException | Error e) {
+            // Don't leave callers waiting forever if something escapes Result.attempt.
+            batch.values().forEach(future -> future.completeExceptionally(e));
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package com.spencerwi.either;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.ToLongFunction;
+
+/**
+ * A sink for a stream of Eithers that hands Rights and Lefts to their own
+ *  callbacks in batches as soon as each batch fills, instead of collecting
+ *  everything first, so memory stays bounded and writes overlap with
+ *  processing:
+ *
+ *     try (BatchingSink<String, Row> sink = BatchingSink.of(
+ *             BatchingSink.batchesOf(100, deadLetters::insertAll),
+ *             BatchingSink.batchesOf(500, db::insertAll))) {
+ *         rows.forEach(sink);
+ *     }
+ *
+ * Closing the sink flushes whatever is left in each side's last, partial
+ *  batch. A sink is safe to use from a parallel stream; batches are then
+ *  filled and flushed from several threads at once, so callbacks must be
+ *  thread-safe and batches may be flushed out of order. An exception thrown
+ *  by a callback propagates to whoever added the element that filled the
+ *  batch, and that batch is not retried.
+ * @param <L> the "left side" type.
+ * @param <R> the "right side" type.
+ */
+public final class BatchingSink<L, R> implements Consumer<Either<L, R>>, AutoCloseable {
+    private final Batcher<L> lefts;
+    private final Batcher<R> rights;
+
+    private BatchingSink(Batcher<L> lefts, Batcher<R> rights) {
+        this.lefts = lefts;
+        this.rights = rights;
+    }
+
+    /**
+     * @param lefts batches left-side values.
+     * @param rights batches right-side values.
+     */
+    public static <L, R> BatchingSink<L, R> of(Batcher<L> lefts, Batcher<R> rights) {
+        return new BatchingSink<>(lefts, rights);
+    }
+
+    /**
+     * @param batchSize how many values to put in each batch.
+     * @param flush receives each full batch, and the final partial one.
+     * @return a batcher that flushes every `batchSize` values.
+     */
+    public static <T> Batcher<T> batchesOf(int batchSize, Consumer<? super List<T>> flush) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("batchSize must be at least 1");
+        }
+        return new Batcher<>(batchSize, Long.MAX_VALUE, value -> 0, flush);
+    }
+
+    /**
+     * @param maxBytes the most bytes (as measured by `sizeOf`) to put in each batch; a single value larger than this is flushed on its own.
+     * @param sizeOf estimates the size of a value in bytes.
+     * @param flush receives each full batch, and the final partial one.
+     * @return a batcher that flushes before a batch would grow past `maxBytes`.
+     */
+    public static <T> Batcher<T> batchesOfBytes(long maxBytes, ToLongFunction<? super T> sizeOf, Consumer<? super List<T>> flush) {
+        if (maxBytes < 1) {
+            throw new IllegalArgumentException("maxBytes must be at least 1");
+        }
+        return new Batcher<>(Integer.MAX_VALUE, maxBytes, sizeOf, flush);
+    }
+
+    @Override
+    public void accept(Either<L, R> either) {
+        either.run(lefts::add, rights::add);
+    }
+
+    /**
+     * Flushes both sides' partial batches, if they are not empty.
+     */
+    public void flush() {
+        lefts.flush();
+        rights.flush();
+    }
+
+    public long getFlushedLeftCount() { return lefts.flushedCount.get(); }
+    public long getFlushedRightCount() { return rights.flushedCount.get(); }
+
+    /**
+     * Flushes both sides' partial batches.
+     */
+    @Override
+    public void close() {
+        flush();
+    }
+
+    /**
+     * Accumulates one side's values into batches and passes each full batch to a callback.
+     */
+    public static final class Batcher<T> {
+        private final int maxCount;
+        private final long maxBytes;
+        private final ToLongFunction<? super T> sizeOf;
+        private final Consumer<? super List<T>> flush;
+        private final AtomicLong flushedCount = new AtomicLong();
+        private List<T> batch = new ArrayList<>();
+        private long batchBytes = 0;
+
+        private Batcher(int maxCount, long maxBytes, ToLongFunction<? super T> sizeOf, Consumer<? super List<T>> flush) {
+            this.maxCount = maxCount;
+            this.maxBytes = maxBytes;
+            this.sizeOf = sizeOf;
+            this.flush = flush;
+        }
+
+        /**
+         * Also caps each batch at `maxCount` values.
+         * @return a copy of this batcher with the added limit; only use it on a batcher that has not been given any values.
+         */
+        public Batcher<T> withMaxCount(int maxCount) {
+            if (maxCount < 1) {
+                throw new IllegalArgumentException("maxCount must be at least 1");
+            }
+            return new Batcher<>(maxCount, maxBytes, sizeOf, flush);
+        }
+
+        void add(T value) {
+            long size = sizeOf.applyAsLong(value);
+            List<T> full = null;
+            List<T> fullAfterAdding = null;
+            synchronized (this) {
+                // Flush first if this value would push a non-empty batch past its byte limit.
+                if (!batch.isEmpty() && batchBytes + size > maxBytes) {
+                    full = takeBatch();
+                }
+                batch.add(value);
+                batchBytes += size;
+                if (batch.size() >= maxCount || batchBytes >= maxBytes) {
+                    fullAfterAdding = takeBatch();
+                }
+            }
+            if (full != null) {
+                deliver(full);
+            }
+            if (fullAfterAdding != null) {
+                deliver(fullAfterAdding);
+            }
+        }
+
+        void flush() {
+            List<T> partial;
+            synchronized (this) {
+                if (batch.isEmpty()) {
+                    return;
+                }
+                partial = takeBatch();
+            }
+            deliver(partial);
+        }
+
+        private List<T> takeBatch() {
+            List<T> taken = batch;
+            batch = new ArrayList<>(Math.min(taken.size(), maxCount));
+            batchBytes = 0;
+            return taken;
+        }
+
+        private void deliver(List<T> full) {
+            flush.accept(Collections.unmodifiableList(full));
+            flushedCount.addAndGet(full.size());
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.spencerwi.either;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Limits how many attempts against a single dependency may run at once, so
+ *  that one slow dependency cannot tie up every thread that calls it.
+ *
+ * When the limit has been reached, {@link #attempt} either rejects the call
+ *  straight away or waits up to a bounded amount of time for a slot to free
+ *  up, and then returns an `Err` wrapping an {@link AttemptRejectedException}
+ *  instead of running the supplier. Immediate rejection never queues the
+ *  caller, which makes it a good fit for large numbers of cheap (for example,
+ *  virtual) threads; a bounded wait smooths out short bursts.
+ *
+ * A `Bulkhead` is meant to be shared by every caller of the dependency it
+ *  protects.
+ */
+public final class Bulkhead {
+    private final int maxConcurrent;
+    private final long maxWaitNanos;
+    private final Semaphore permits;
+    private final LongAdder rejected = new LongAdder();
+
+    private Bulkhead(int maxConcurrent, long maxWaitNanos) {
+        this.maxConcurrent = maxConcurrent;
+        this.maxWaitNanos = maxWaitNanos;
+        this.permits = new Semaphore(maxConcurrent);
+    }
+
+    /**
+     * @param maxConcurrent the most attempts that may run at once.
+     * @return a `Bulkhead` that rejects attempts immediately once `maxConcurrent` are in flight.
+     */
+    public static Bulkhead of(int maxConcurrent) {
+        return of(maxConcurrent, Duration.ZERO);
+    }
+
+    /**
+     * @param maxConcurrent the most attempts that may run at once.
+     * @param maxWait how long an attempt may wait for a free slot before being rejected.
+     * @return a `Bulkhead` that rejects attempts which could not get a slot within `maxWait`.
+     */
+    public static Bulkhead of(int maxConcurrent, Duration maxWait) {
+        if (maxConcurrent < 1) {
+            throw new IllegalArgumentException("maxConcurrent must be at least 1");
+        }
+        if (maxWait.isNegative()) {
+            throw new IllegalArgumentException("maxWait must not be negative");
+        }
+        return new Bulkhead(maxConcurrent, maxWait.toNanos());
+    }
+
+    /**
+     * Runs `resultSupplier` like {@link Result#attempt} if a slot is free (or
+     *  frees up within the configured wait); otherwise, rejects it.
+     * @return the outcome of `resultSupplier`, or an `Err` wrapping an {@link AttemptRejectedException} if it was rejected.
+     */
+    public <R> Result<R> attempt(ExceptionThrowingSupplier<R> resultSupplier) {
+        boolean acquired;
+        try {
+            acquired = (maxWaitNanos == 0)
+                    ? permits.tryAcquire()
+                    : permits.tryAcquire(maxWaitNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Result.err(e);
+        }
+        if (!acquired) {
+            rejected.increment();
+            return Result.err(new AttemptRejectedException("Bulkhead full: " + maxConcurrent + " attempts already in flight"));
+        }
+        try {
+            return Result.attempt(resultSupplier);
+        } finally {
+            permits.release();
+        }
+    }
+
+    /**
+     * @return the number of attempts currently running.
+     */
+    public int inFlight() {
+        return maxConcurrent - permits.availablePermits();
+    }
+
+    /**
+     * @return the total number of attempts rejected so far.
+     */
+    public long rejectedCount() {
+        return rejected.sum();
+    }
+
+    /**
+     * @return the most attempts that may run at once.
+     */
+    public int maxConcurrent() {
+        return maxConcurrent;
+    }
+}
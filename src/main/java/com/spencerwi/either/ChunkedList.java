@@ -0,0 +1,84 @@
+package com.spencerwi.either;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * An append-only sequence stored as a linked chain of array chunks, so that
+ *  appending one sequence to another is constant-time instead of copying.
+ *  Used by the accumulators in {@link EitherCollectors}, where parallel
+ *  streams combine partial results many times but only need one flat list
+ *  at the end.
+ *
+ * Not thread-safe; appending a sequence transfers its chunks, so the
+ *  appended sequence must not be used afterwards.
+ */
+final class ChunkedList<T> {
+    static final int MIN_CHUNK = 16;
+    static final int MAX_CHUNK = 8192;
+
+    private Chunk head;
+    private Chunk tail;
+    private int size = 0;
+
+    void add(T value) {
+        if (tail == null || tail.size == tail.items.length) {
+            int capacity = (tail == null) ? MIN_CHUNK : Math.min(MAX_CHUNK, tail.items.length * 2);
+            Chunk chunk = new Chunk(capacity);
+            if (tail == null) {
+                head = chunk;
+            } else {
+                tail.next = chunk;
+            }
+            tail = chunk;
+        }
+        tail.items[tail.size++] = value;
+        size++;
+    }
+
+    /**
+     * Moves every element of `other` onto the end of this sequence, in constant time.
+     */
+    void append(ChunkedList<T> other) {
+        if (other.head == null) {
+            return;
+        }
+        if (head == null) {
+            head = other.head;
+        } else {
+            tail.next = other.head;
+        }
+        tail = other.tail;
+        size += other.size;
+        other.head = null;
+        other.tail = null;
+        other.size = 0;
+    }
+
+    int size() { return size; }
+    boolean isEmpty() { return size == 0; }
+
+    /**
+     * @return the elements, in order, copied into a list of exactly the right size.
+     */
+    @SuppressWarnings("unchecked")
+    List<T> toList() {
+        List<T> list = new ArrayList<>(size);
+        for (Chunk chunk = head; chunk != null; chunk = chunk.next) {
+            for (int i = 0; i < chunk.size; i++) {
+                list.add((T) chunk.items[i]);
+            }
+        }
+        return list;
+    }
+
+    private static final class Chunk {
+        final Object[] items;
+        int size = 0;
+        Chunk next;
+
+        Chunk(int capacity) {
+            this.items = new Object[capacity];
+        }
+    }
+}
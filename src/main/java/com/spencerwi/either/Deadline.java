@@ -0,0 +1,132 @@
+package com.spencerwi.either;
+
+import java.time.Duration;
+
+/**
+ * A point in time after which work on a request is no longer wanted,
+ *  threaded through a chain of `Result` steps so that the chain stops
+ *  calling downstreams once the caller has given up:
+ *
+ *     Deadline deadline = Deadline.after(Duration.ofMillis(200));
+ *     Result<Quote> quote = deadline.attempt(() -> lookUpCustomer(id))
+ *             .flatMap(deadline.step(customer -> pricing.quoteFor(customer)))
+ *             .flatMap(deadline.stepWithin((untaxed, remaining) -> tax.apply(untaxed, remaining)));
+ *
+ * Every step checks the deadline before it runs; once it has passed, steps
+ *  are skipped and return an `Err` wrapping a
+ *  {@link DeadlineExceededException}. Steps that can time out on their own
+ *  (such as network calls) can be handed the remaining budget. A step that is
+ *  already running is not interrupted when the deadline passes.
+ *
+ * Deadlines are measured with {@link System#nanoTime}, so they are immune to
+ *  wall-clock adjustments, and are safe to share between threads.
+ */
+public final class Deadline {
+    private final long deadlineNanos;
+    private final long budgetNanos;
+
+    private Deadline(long deadlineNanos, long budgetNanos) {
+        this.deadlineNanos = deadlineNanos;
+        this.budgetNanos = budgetNanos;
+    }
+
+    /**
+     * @param budget how long from now the deadline is.
+     * @return a deadline `budget` from now.
+     */
+    public static Deadline after(Duration budget) {
+        if (budget.isNegative()) {
+            throw new IllegalArgumentException("budget must not be negative");
+        }
+        long budgetNanos = saturatedNanos(budget);
+        return new Deadline(System.nanoTime() + budgetNanos, budgetNanos);
+    }
+
+    /**
+     * @return the earlier of this deadline and one `budget` from now, for handing a tighter budget to part of a chain.
+     */
+    public Deadline atMost(Duration budget) {
+        Deadline other = after(budget);
+        return (other.deadlineNanos - deadlineNanos < 0) ? other : this;
+    }
+
+    /**
+     * @return the time left before the deadline, or zero if it has passed.
+     */
+    public Duration remaining() {
+        return Duration.ofNanos(remainingNanos());
+    }
+
+    /**
+     * @return the time left before the deadline in nanoseconds, or zero if it has passed.
+     */
+    public long remainingNanos() {
+        return Math.max(0, deadlineNanos - System.nanoTime());
+    }
+
+    public boolean isExpired() {
+        return deadlineNanos - System.nanoTime() <= 0;
+    }
+
+    /**
+     * Runs `resultSupplier` like {@link Result#attempt}, unless the deadline has passed.
+     * @return the outcome of `resultSupplier`, or an `Err` wrapping a {@link DeadlineExceededException} if it was skipped.
+     */
+    public <R> Result<R> attempt(ExceptionThrowingSupplier<R> resultSupplier) {
+        if (isExpired()) {
+            return Result.err(exceeded());
+        }
+        return Result.attempt(resultSupplier);
+    }
+
+    /**
+     * Runs `resultFunction` with the remaining budget, unless the deadline has passed.
+     * @return the outcome of `resultFunction`, or an `Err` wrapping a {@link DeadlineExceededException} if it was skipped.
+     */
+    public <R> Result<R> attemptWithin(ExceptionThrowingFunction<Duration, R> resultFunction) {
+        long remaining = remainingNanos();
+        if (remaining == 0) {
+            return Result.err(exceeded());
+        }
+        return Result.attempt(() -> resultFunction.apply(Duration.ofNanos(remaining)));
+    }
+
+    /**
+     * @return a function for {@link Result#flatMap} that runs `transformValue`, unless the deadline has passed.
+     */
+    public <T, R> ExceptionThrowingFunction<T, Result<R>> step(ExceptionThrowingFunction<T, R> transformValue) {
+        return value -> attempt(() -> transformValue.apply(value));
+    }
+
+    /**
+     * @return a function for {@link Result#flatMap} that runs `transformValue` with the remaining budget, unless the deadline has passed.
+     */
+    public <T, R> ExceptionThrowingFunction<T, Result<R>> stepWithin(TimedStep<T, R> transformValue) {
+        return value -> attemptWithin(remaining -> transformValue.apply(value, remaining));
+    }
+
+    /**
+     * A step that is told how much of the budget is left, for example to pass on as a timeout.
+     */
+    @FunctionalInterface
+    public interface TimedStep<T, R> {
+        R apply(T value, Duration remaining) throws Exception;
+    }
+
+    private DeadlineExceededException exceeded() {
+        return new DeadlineExceededException("Deadline of " + Duration.ofNanos(budgetNanos).toMillis() + "ms exceeded");
+    }
+
+    private static long saturatedNanos(Duration duration) {
+        try {
+            return duration.toNanos();
+        } catch (ArithmeticException e) {
+            return Long.MAX_VALUE / 2;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "Deadline(" + remaining().toMillis() + "ms remaining)";
+    }
+}
@@ -0,0 +1,15 @@
+package com.spencerwi.either;
+
+/**
+ * Wrapped in an `Err` when a step of a {@link Deadline}-bound chain was
+ *  skipped because the deadline had already passed.
+ *
+ * Like {@link AttemptRejectedException}, this is expected to happen in
+ *  bursts when a dependency slows down, so it does not capture a stack
+ *  trace.
+ */
+public class DeadlineExceededException extends Exception {
+    public DeadlineExceededException(String message) {
+        super(message, null, false, false);
+    }
+}
@@ -0,0 +1,93 @@
+package com.spencerwi.either;
+
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * A description of an `Either`-producing computation that only runs when
+ *  {@link #run} is called. Unlike chaining {@link Either#flatMapRight}
+ *  directly, a chain of `flatMap` calls on a `DeferredEither` (including
+ *  recursive ones built with {@link #defer}) runs in constant stack space, so
+ *  it can be as deep as you like.
+ * @param <L> the "left side" type.
+ * @param <R> the "right side" type.
+ */
+public final class DeferredEither<L, R> {
+    private final Trampoline<Either<L, R>> computation;
+
+    private DeferredEither(Trampoline<Either<L, R>> computation) {
+        this.computation = computation;
+    }
+
+    /**
+     * @return a `DeferredEither` that produces the given, already-computed, `Either`.
+     */
+    public static <L, R> DeferredEither<L, R> of(Either<L, R> either) {
+        return new DeferredEither<>(Trampoline.done(either));
+    }
+
+    /**
+     * @return a `DeferredEither` that produces a Left wrapping `left`.
+     */
+    public static <L, R> DeferredEither<L, R> left(L left) {
+        return of(Either.left(left));
+    }
+
+    /**
+     * @return a `DeferredEither` that produces a Right wrapping `right`.
+     */
+    public static <L, R> DeferredEither<L, R> right(R right) {
+        return of(Either.right(right));
+    }
+
+    /**
+     * Delays building the rest of a computation until it is run. Use this
+     *  for recursive definitions, so that the recursion happens inside the
+     *  {@link #run} loop instead of on the call stack.
+     */
+    public static <L, R> DeferredEither<L, R> defer(Supplier<DeferredEither<L, R>> next) {
+        return new DeferredEither<>(Trampoline.suspend(() -> next.get().computation));
+    }
+
+    /**
+     * Deferred version of {@link Either#mapLeft}.
+     */
+    public <L2> DeferredEither<L2, R> mapLeft(Function<L, L2> transformLeft) {
+        return new DeferredEither<>(computation.flatMap(either -> Trampoline.done(either.mapLeft(transformLeft))));
+    }
+
+    /**
+     * Deferred version of {@link Either#mapRight}.
+     */
+    public <R2> DeferredEither<L, R2> mapRight(Function<R, R2> transformRight) {
+        return new DeferredEither<>(computation.flatMap(either -> Trampoline.done(either.mapRight(transformRight))));
+    }
+
+    /**
+     * Deferred version of {@link Either#flatMapLeft}.
+     */
+    public <L2> DeferredEither<L2, R> flatMapLeft(Function<L, DeferredEither<L2, R>> transformLeft) {
+        return new DeferredEither<>(computation.flatMap(either -> either.fold(
+                left -> transformLeft.apply(left).computation,
+                right -> Trampoline.done(Either.<L2, R>right(right))
+        )));
+    }
+
+    /**
+     * Deferred version of {@link Either#flatMapRight}.
+     */
+    public <R2> DeferredEither<L, R2> flatMapRight(Function<R, DeferredEither<L, R2>> transformRight) {
+        return new DeferredEither<>(computation.flatMap(either -> either.fold(
+                left -> Trampoline.done(Either.<L, R2>left(left)),
+                right -> transformRight.apply(right).computation
+        )));
+    }
+
+    /**
+     * Runs the computation.
+     * @return the `Either` produced by the whole chain.
+     */
+    public Either<L, R> run() {
+        return computation.run();
+    }
+}
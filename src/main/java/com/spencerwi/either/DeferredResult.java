@@ -0,0 +1,91 @@
+package com.spencerwi.either;
+
+import java.util.function.Supplier;
+
+/**
+ * A description of a `Result`-producing computation that only runs when
+ *  {@link #run} is called. Unlike chaining {@link Result#flatMap} directly,
+ *  a chain of `flatMap` calls on a `DeferredResult` (including recursive ones
+ *  built with {@link #defer}) runs in constant stack space, so it can be as
+ *  deep as you like.
+ *
+ * Each step behaves like its `Result` counterpart: an exception thrown by a
+ *  step becomes an `Err`, and once there is an `Err` the remaining steps are
+ *  skipped.
+ * @param <R> the result type.
+ */
+public final class DeferredResult<R> {
+    private final Trampoline<Result<R>> computation;
+
+    private DeferredResult(Trampoline<Result<R>> computation) {
+        this.computation = computation;
+    }
+
+    /**
+     * @return a `DeferredResult` that produces the given, already-computed, `Result`.
+     */
+    public static <R> DeferredResult<R> of(Result<R> result) {
+        return new DeferredResult<>(Trampoline.done(result));
+    }
+
+    /**
+     * @return a `DeferredResult` that produces an `Ok` wrapping `value`.
+     */
+    public static <R> DeferredResult<R> ok(R value) {
+        return of(Result.ok(value));
+    }
+
+    /**
+     * @return a `DeferredResult` that produces an `Err` wrapping `e`.
+     */
+    public static <R> DeferredResult<R> err(Exception e) {
+        return of(Result.err(e));
+    }
+
+    /**
+     * @return a `DeferredResult` that runs `resultSupplier` like {@link Result#attempt} when it is run.
+     */
+    public static <R> DeferredResult<R> attempt(ExceptionThrowingSupplier<R> resultSupplier) {
+        return new DeferredResult<>(Trampoline.suspend(() -> Trampoline.done(Result.attempt(resultSupplier))));
+    }
+
+    /**
+     * Delays building the rest of a computation until it is run. Use this
+     *  for recursive definitions, so that the recursion happens inside the
+     *  {@link #run} loop instead of on the call stack.
+     */
+    public static <R> DeferredResult<R> defer(Supplier<DeferredResult<R>> next) {
+        return new DeferredResult<>(Trampoline.suspend(() -> next.get().computation));
+    }
+
+    /**
+     * Deferred version of {@link Result#map}.
+     */
+    public <T> DeferredResult<T> map(ExceptionThrowingFunction<R, T> transformValue) {
+        return new DeferredResult<>(computation.flatMap(result -> Trampoline.done(result.map(transformValue))));
+    }
+
+    /**
+     * Deferred version of {@link Result#flatMap}.
+     */
+    public <T> DeferredResult<T> flatMap(ExceptionThrowingFunction<R, DeferredResult<T>> transformValue) {
+        return new DeferredResult<>(computation.flatMap(result -> result.fold(
+                exception -> Trampoline.done(Result.<T>err(exception)),
+                value -> {
+                    try {
+                        return transformValue.apply(value).computation;
+                    } catch (Exception e) {
+                        return Trampoline.done(Result.<T>err(e));
+                    }
+                }
+        )));
+    }
+
+    /**
+     * Runs the computation.
+     * @return the `Result` of the whole chain.
+     */
+    public Result<R> run() {
+        return computation.run();
+    }
+}
@@ -1,6 +1,7 @@
 package com.spencerwi.either;
 
 import java.util.NoSuchElementException;
+import java.util.Objects;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.function.Consumer;
@@ -192,9 +193,9 @@ public abstract class Either<L, R> {
 	 */
 	public abstract <X extends Throwable> R getRightOrElseThrow(Function<L,X> leftToException) throws X;
 
-    public static class Left<L,R> extends Either<L, R> {
+    public static final class Left<L,R> extends Either<L, R> {
 
-        protected L leftValue;
+        protected final L leftValue;
 
         private Left(L left) {
             this.leftValue = left;
@@ -264,8 +265,9 @@ public abstract class Either<L, R> {
 		}
 
 
+        // Mix in the side, so that Left(x) and Right(x) land in different hash buckets.
 		@Override
-        public int hashCode(){ return this.leftValue.hashCode(); }
+        public int hashCode(){ return 31 * Objects.hashCode(this.leftValue) + 1; }
 
 		/**
 		 * A Left is equal to another object *if* the other object is a Left
@@ -275,16 +277,16 @@ public abstract class Either<L, R> {
         public boolean equals(Object other){
             if (other instanceof Left<?,?>){
                 final Left<?, ?> otherAsLeft = (Left<?, ?>)other;
-                return this.leftValue.equals(otherAsLeft.leftValue);
+                return Objects.equals(this.leftValue, otherAsLeft.leftValue);
             } else {
                 return false;
             }
         }
 
     }
-    public static class Right<L,R> extends Either<L, R> {
+    public static final class Right<L,R> extends Either<L, R> {
 
-        protected R rightValue;
+        protected final R rightValue;
 
         private Right(R right) {
             this.rightValue = right;
@@ -357,7 +359,7 @@ public abstract class Either<L, R> {
 
 
 		@Override
-        public int hashCode(){ return this.rightValue.hashCode(); }
+        public int hashCode(){ return 31 * Objects.hashCode(this.rightValue) + 2; }
 
 		/**
 		 * A Right is equal to another object *if* the other object is a Right
@@ -367,7 +369,7 @@ public abstract class Either<L, R> {
         public boolean equals(Object other){
             if (other instanceof Right<?,?>){
                 final Right<?, ?> otherAsRight = (Right<?, ?>)other;
-                return this.rightValue.equals(otherAsRight.rightValue);
+                return Objects.equals(this.rightValue, otherAsRight.rightValue);
             } else {
                 return false;
             }
@@ -1,11 +1,14 @@
 package com.spencerwi.either;
 
+import java.nio.file.Path;
 import java.util.*;
+import java.util.concurrent.ConcurrentMap;
 import java.util.function.BiConsumer;
 import java.util.function.BinaryOperator;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collector;
+import java.util.stream.Collectors;
 
 /**
  * These collectors collect a stream of Either<L,R> objects to an Either<List<L>, List<R>> object.
@@ -39,6 +42,106 @@ public class EitherCollectors<L,R> implements Collector< Either<L,R>, EitherColl
         return new EitherCollectors<>(false);
     }
 
+    /**
+     * Factory method for creating a collector which groups the stream by the key that `classifier` returns, and
+     * collects each group with {@link #toLeftBiased()}, in a single pass over the stream.
+     * @param classifier extracts the grouping key from each Either.
+     * @return Map<K, Either<List<L>, List<R>>>
+     */
+    public static <K,L,R> Collector<Either<L,R>, ?, Map<K, Either<List<L>, List<R>>>> groupingByLeftBiased(
+            Function<? super Either<L,R>, ? extends K> classifier
+    ) {
+        return Collectors.groupingBy(classifier, EitherCollectors.<L,R>toLeftBiased());
+    }
+
+    /**
+     * Factory method for creating a collector which groups the stream by the key that `classifier` returns, and
+     * collects each group with {@link #toRightBiased()}, in a single pass over the stream.
+     * @param classifier extracts the grouping key from each Either.
+     * @return Map<K, Either<List<L>, List<R>>>
+     */
+    public static <K,L,R> Collector<Either<L,R>, ?, Map<K, Either<List<L>, List<R>>>> groupingByRightBiased(
+            Function<? super Either<L,R>, ? extends K> classifier
+    ) {
+        return Collectors.groupingBy(classifier, EitherCollectors.<L,R>toRightBiased());
+    }
+
+    /**
+     * Like {@link #groupingByLeftBiased}, but accumulates into a single {@link ConcurrentMap} from every thread of a
+     * parallel stream instead of building and merging per-thread maps. Only contention on the same key is
+     * serialized. The order of each group's lists is unspecified.
+     * @param classifier extracts the grouping key from each Either.
+     * @return ConcurrentMap<K, Either<List<L>, List<R>>>
+     */
+    public static <K,L,R> Collector<Either<L,R>, ?, ConcurrentMap<K, Either<List<L>, List<R>>>> groupingByConcurrentLeftBiased(
+            Function<? super Either<L,R>, ? extends K> classifier
+    ) {
+        return Collectors.groupingByConcurrent(classifier, EitherCollectors.<L,R>toLeftBiased());
+    }
+
+    /**
+     * Like {@link #groupingByRightBiased}, but accumulates into a single {@link ConcurrentMap} from every thread of a
+     * parallel stream instead of building and merging per-thread maps. Only contention on the same key is
+     * serialized. The order of each group's lists is unspecified.
+     * @param classifier extracts the grouping key from each Either.
+     * @return ConcurrentMap<K, Either<List<L>, List<R>>>
+     */
+    public static <K,L,R> Collector<Either<L,R>, ?, ConcurrentMap<K, Either<List<L>, List<R>>>> groupingByConcurrentRightBiased(
+            Function<? super Either<L,R>, ? extends K> classifier
+    ) {
+        return Collectors.groupingByConcurrent(classifier, EitherCollectors.<L,R>toRightBiased());
+    }
+
+    /**
+     * Like {@link #toLeftBiased()}, but once more than `maxInMemory` elements are held on the heap, writes them to
+     * temporary files with the given codecs. The result is read back lazily, so it can be larger than the heap.
+     * Close the resulting {@link SpilledSequence} to delete its files; the other side's files are deleted by the
+     * collector.
+     * @param maxInMemory the most elements (of both sides together) that each accumulator keeps on the heap.
+     * @param leftCodec encodes left-side values.
+     * @param rightCodec encodes right-side values.
+     * @return Either<SpilledSequence<L>, SpilledSequence<R>>
+     */
+    public static <L,R> Collector<Either<L,R>, ?, Either<SpilledSequence<L>, SpilledSequence<R>>> toLeftBiasedSpilling(
+            int maxInMemory, ElementCodec<L> leftCodec, ElementCodec<R> rightCodec
+    ) {
+        return new SpillingEitherCollector<>(true, maxInMemory, leftCodec, rightCodec, null);
+    }
+
+    /**
+     * Like {@link #toLeftBiasedSpilling(int, ElementCodec, ElementCodec)}, but writes its temporary files to `directory`.
+     */
+    public static <L,R> Collector<Either<L,R>, ?, Either<SpilledSequence<L>, SpilledSequence<R>>> toLeftBiasedSpilling(
+            int maxInMemory, ElementCodec<L> leftCodec, ElementCodec<R> rightCodec, Path directory
+    ) {
+        return new SpillingEitherCollector<>(true, maxInMemory, leftCodec, rightCodec, directory);
+    }
+
+    /**
+     * Like {@link #toRightBiased()}, but once more than `maxInMemory` elements are held on the heap, writes them to
+     * temporary files with the given codecs. The result is read back lazily, so it can be larger than the heap.
+     * Close the resulting {@link SpilledSequence} to delete its files; the other side's files are deleted by the
+     * collector.
+     * @param maxInMemory the most elements (of both sides together) that each accumulator keeps on the heap.
+     * @param leftCodec encodes left-side values.
+     * @param rightCodec encodes right-side values.
+     * @return Either<SpilledSequence<L>, SpilledSequence<R>>
+     */
+    public static <L,R> Collector<Either<L,R>, ?, Either<SpilledSequence<L>, SpilledSequence<R>>> toRightBiasedSpilling(
+            int maxInMemory, ElementCodec<L> leftCodec, ElementCodec<R> rightCodec
+    ) {
+        return new SpillingEitherCollector<>(false, maxInMemory, leftCodec, rightCodec, null);
+    }
+
+    /**
+     * Like {@link #toRightBiasedSpilling(int, ElementCodec, ElementCodec)}, but writes its temporary files to `directory`.
+     */
+    public static <L,R> Collector<Either<L,R>, ?, Either<SpilledSequence<L>, SpilledSequence<R>>> toRightBiasedSpilling(
+            int maxInMemory, ElementCodec<L> leftCodec, ElementCodec<R> rightCodec, Path directory
+    ) {
+        return new SpillingEitherCollector<>(false, maxInMemory, leftCodec, rightCodec, directory);
+    }
+
     private EitherCollectors(boolean leftBiased) {
         this.leftBiased = leftBiased;
     }
@@ -65,18 +168,20 @@ public class EitherCollectors<L,R> implements Collector< Either<L,R>, EitherColl
 
     @Override
     public Set<Characteristics> characteristics() {
-        return Collections.unmodifiableSet(EnumSet.of(Characteristics.CONCURRENT));
+        // Not CONCURRENT: an EitherAccumulator is not thread-safe, so parallel streams must give each thread its own.
+        return Collections.emptySet();
     }
 
     static class EitherAccumulator<L,R> {
-        private final List<L> lefts;
-        private final List<R> rights;
+        // Chunked, so that combining the partial results of a parallel stream doesn't copy them.
+        private final ChunkedList<L> lefts;
+        private final ChunkedList<R> rights;
         private final boolean leftBiased;
 
         EitherAccumulator(boolean leftBiased) {
             this.leftBiased = leftBiased;
-            this.lefts = new ArrayList<>();
-            this.rights = new ArrayList<>();
+            this.lefts = new ChunkedList<>();
+            this.rights = new ChunkedList<>();
         }
 
         void add(Either<L,R> e) {
@@ -84,16 +189,16 @@ public class EitherCollectors<L,R> implements Collector< Either<L,R>, EitherColl
         }
 
         EitherAccumulator<L,R> append(EitherAccumulator<L,R> accumulator2) {
-            lefts.addAll(accumulator2.lefts);
-            rights.addAll(accumulator2.rights);
+            lefts.append(accumulator2.lefts);
+            rights.append(accumulator2.rights);
             return this;
         }
 
         Either<List<L>, List<R>> finisher() {
             if(leftBiased) {
-                return !lefts.isEmpty() || rights.isEmpty()  ? Either.left(lefts) : Either.right(rights);
+                return !lefts.isEmpty() || rights.isEmpty()  ? Either.left(lefts.toList()) : Either.right(rights.toList());
             } else {
-                return !rights.isEmpty() || lefts.isEmpty() ? Either.right(rights) : Either.left(lefts);
+                return !rights.isEmpty() || lefts.isEmpty() ? Either.right(rights.toList()) : Either.left(lefts.toList());
             }
         }
     }
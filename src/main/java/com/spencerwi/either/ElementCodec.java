@@ -0,0 +1,49 @@
+package com.spencerwi.either;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Writes values of type `T` to, and reads them back from, a binary stream.
+ *  Used by the spilling collectors in {@link EitherCollectors} to move
+ *  elements out of the heap and into temporary files.
+ *
+ * `read` must consume exactly the bytes that `write` produced for the same
+ *  value, since values are written back-to-back with no framing.
+ * @param <T> the type of value this codec handles.
+ */
+public interface ElementCodec<T> {
+    void write(T value, DataOutput out) throws IOException;
+    T read(DataInput in) throws IOException;
+
+    /**
+     * @return a codec for (possibly null) Strings of any length, encoded as UTF-8.
+     */
+    static ElementCodec<String> strings() {
+        return new ElementCodec<String>() {
+            @Override
+            public void write(String value, DataOutput out) throws IOException {
+                if (value == null) {
+                    out.writeInt(-1);
+                    return;
+                }
+                byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+                out.writeInt(bytes.length);
+                out.write(bytes);
+            }
+
+            @Override
+            public String read(DataInput in) throws IOException {
+                int length = in.readInt();
+                if (length < 0) {
+                    return null;
+                }
+                byte[] bytes = new byte[length];
+                in.readFully(bytes);
+                return new String(bytes, StandardCharsets.UTF_8);
+            }
+        };
+    }
+}
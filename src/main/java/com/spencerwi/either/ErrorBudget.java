@@ -0,0 +1,247 @@
+package com.spencerwi.either;
+
+import java.util.Spliterator;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A limit on how many failures a stream of outcomes may contain before it
+ *  is no longer worth processing the rest of it: an absolute number of
+ *  failures, a failure rate, or both (in which case exceeding either one
+ *  exhausts the budget).
+ *
+ * Tracking a stream with a budget wraps it so that, as soon as the budget is
+ *  exhausted, the stream ends -- including every thread of a parallel stream
+ *  -- and no more of its source is consumed. The element that exhausted the
+ *  budget is still passed downstream. Afterwards, the {@link Tracker} says
+ *  whether the stream was cut short and how far it got:
+ *
+ *     ErrorBudget budget = ErrorBudget.maxFailureRate(0.005, 1_000).withMaxFailures(1_000);
+ *     ErrorBudget.Tracker<Result<Row>> tracker = budget.trackResults(rows);
+ *     tracker.stream().filter(Result::isOk).map(Result::getResult).forEach(db::insert);
+ *     Result<Long> imported = tracker.toResult(); // an Err if the import was cut short
+ */
+public final class ErrorBudget {
+    private final long maxFailures;
+    private final double maxFailureRate;
+    private final long minAttempts;
+
+    private ErrorBudget(long maxFailures, double maxFailureRate, long minAttempts) {
+        this.maxFailures = maxFailures;
+        this.maxFailureRate = maxFailureRate;
+        this.minAttempts = minAttempts;
+    }
+
+    /**
+     * @param maxFailures the most failures to tolerate; one more exhausts the budget.
+     * @return a budget with only an absolute limit.
+     */
+    public static ErrorBudget maxFailures(long maxFailures) {
+        return new ErrorBudget(validateMaxFailures(maxFailures), Double.NaN, 0);
+    }
+
+    /**
+     * @param maxFailureRate the highest fraction of failures to tolerate, between 0 and 1.
+     * @param minAttempts how many elements to see before enforcing the rate, so that a failure among the first few does not exhaust the budget.
+     * @return a budget with only a rate limit.
+     */
+    public static ErrorBudget maxFailureRate(double maxFailureRate, long minAttempts) {
+        return new ErrorBudget(Long.MAX_VALUE, validateRate(maxFailureRate), validateMinAttempts(minAttempts));
+    }
+
+    /**
+     * @return a copy of this budget that is also exhausted by more than `maxFailures` failures.
+     */
+    public ErrorBudget withMaxFailures(long maxFailures) {
+        return new ErrorBudget(validateMaxFailures(maxFailures), maxFailureRate, minAttempts);
+    }
+
+    /**
+     * @return a copy of this budget that is also exhausted by a failure rate above `maxFailureRate`, once at least `minAttempts` elements have been seen.
+     */
+    public ErrorBudget withMaxFailureRate(double maxFailureRate, long minAttempts) {
+        return new ErrorBudget(maxFailures, validateRate(maxFailureRate), validateMinAttempts(minAttempts));
+    }
+
+    private static long validateMaxFailures(long maxFailures) {
+        if (maxFailures < 0) {
+            throw new IllegalArgumentException("maxFailures must not be negative");
+        }
+        return maxFailures;
+    }
+
+    private static double validateRate(double rate) {
+        if (!(rate >= 0 && rate <= 1)) {
+            throw new IllegalArgumentException("maxFailureRate must be between 0 and 1");
+        }
+        return rate;
+    }
+
+    private static long validateMinAttempts(long minAttempts) {
+        if (minAttempts < 0) {
+            throw new IllegalArgumentException("minAttempts must not be negative");
+        }
+        return minAttempts;
+    }
+
+    /**
+     * Tracks a stream of Results against this budget, counting each `Err` as a failure.
+     */
+    public <R> Tracker<Result<R>> trackResults(Stream<Result<R>> results) {
+        return track(results, Result::isErr);
+    }
+
+    /**
+     * Tracks a stream of Eithers against this budget, counting each Left as a failure.
+     */
+    public <L, R> Tracker<Either<L, R>> trackEithers(Stream<Either<L, R>> eithers) {
+        return track(eithers, Either::isLeft);
+    }
+
+    /**
+     * Tracks any stream against this budget.
+     * @param isFailure decides which elements count as failures.
+     */
+    public <T> Tracker<T> track(Stream<T> stream, Predicate<? super T> isFailure) {
+        return new Tracker<>(this, stream, isFailure);
+    }
+
+    /**
+     * @return true if consuming the `attempted`th element is when a rate limit starts being enforced; after that,
+     *  only failures can push the rate over the limit.
+     */
+    boolean startsEnforcingRateAt(long attempted) {
+        return !Double.isNaN(maxFailureRate) && attempted == minAttempts;
+    }
+
+    boolean isExceededBy(long attempted, long failures) {
+        if (failures > maxFailures) {
+            return true;
+        }
+        return !Double.isNaN(maxFailureRate)
+                && attempted >= minAttempts
+                && failures > maxFailureRate * attempted;
+    }
+
+    /**
+     * The progress of one stream tracked by an {@link ErrorBudget}. Safe to read from any thread, even while the
+     *  stream is running.
+     */
+    public static final class Tracker<T> {
+        private final ErrorBudget budget;
+        private final Stream<T> source;
+        private final Predicate<? super T> isFailure;
+        private final AtomicLong attempted = new AtomicLong();
+        private final AtomicLong failures = new AtomicLong();
+        // The counts at the moment the budget was exhausted, or null while it holds.
+        private final AtomicReference<long[]> exhaustion = new AtomicReference<>();
+
+        private Tracker(ErrorBudget budget, Stream<T> source, Predicate<? super T> isFailure) {
+            this.budget = budget;
+            this.source = source;
+            this.isFailure = isFailure;
+        }
+
+        /**
+         * @return the tracked stream, which ends early once the budget is exhausted; it keeps the source's
+         *  parallelism, and closing it closes the source. Like any stream, it can only be consumed once.
+         */
+        public Stream<T> stream() {
+            return StreamSupport.stream(new BudgetedSpliterator(source.spliterator()), source.isParallel())
+                    .onClose(source::close);
+        }
+
+        public boolean isExhausted() { return exhaustion.get() != null; }
+
+        /**
+         * @return how many elements have been consumed; once the budget is exhausted, how many had been when it was.
+         */
+        public long getAttempted() {
+            long[] counts = exhaustion.get();
+            return (counts == null) ? attempted.get() : counts[0];
+        }
+
+        /**
+         * @return how many of the consumed elements were failures; once the budget is exhausted, how many had been when it was.
+         */
+        public long getFailures() {
+            long[] counts = exhaustion.get();
+            return (counts == null) ? failures.get() : counts[1];
+        }
+
+        /**
+         * @return Ok with the number of elements consumed if the budget held; otherwise an Err wrapping an
+         *  {@link ErrorBudgetExceededException} that says how far the stream got.
+         */
+        public Result<Long> toResult() {
+            if (exhaustion.get() == null) {
+                // In case the stream ended (or was cut short by something else) before the last check could fire.
+                check(attempted.get(), failures.get());
+            }
+            long[] counts = exhaustion.get();
+            if (counts != null) {
+                return Result.err(new ErrorBudgetExceededException(counts[0], counts[1]));
+            }
+            return Result.ok(attempted.get());
+        }
+
+        private void count(T element) {
+            long attemptedSoFar = attempted.incrementAndGet();
+            if (isFailure.test(element)) {
+                check(attempted.get(), failures.incrementAndGet());
+            } else if (budget.startsEnforcingRateAt(attemptedSoFar)) {
+                // Failures before this point may already be over the rate, with no further failure to notice it.
+                check(attemptedSoFar, failures.get());
+            }
+        }
+
+        private void check(long attemptedSoFar, long failuresSoFar) {
+            if (budget.isExceededBy(attemptedSoFar, failuresSoFar)) {
+                exhaustion.compareAndSet(null, new long[]{ attemptedSoFar, failuresSoFar });
+            }
+        }
+
+        private final class BudgetedSpliterator implements Spliterator<T> {
+            private final Spliterator<T> delegate;
+
+            BudgetedSpliterator(Spliterator<T> delegate) {
+                this.delegate = delegate;
+            }
+
+            @Override
+            public boolean tryAdvance(Consumer<? super T> action) {
+                if (isExhausted()) {
+                    return false;
+                }
+                return delegate.tryAdvance(element -> {
+                    count(element);
+                    action.accept(element);
+                });
+            }
+
+            @Override
+            public Spliterator<T> trySplit() {
+                if (isExhausted()) {
+                    return null;
+                }
+                Spliterator<T> prefix = delegate.trySplit();
+                return (prefix == null) ? null : new BudgetedSpliterator(prefix);
+            }
+
+            @Override
+            public long estimateSize() {
+                return isExhausted() ? 0 : delegate.estimateSize();
+            }
+
+            @Override
+            public int characteristics() {
+                // The stream can end early, so its size is no longer known up front.
+                return delegate.characteristics() & ~(SIZED | SUBSIZED);
+            }
+        }
+    }
+}
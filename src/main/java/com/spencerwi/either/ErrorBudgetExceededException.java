@@ -0,0 +1,26 @@
+package com.spencerwi.either;
+
+/**
+ * Reports that a stream tracked by an {@link ErrorBudget} was cut short
+ *  because it failed too often, and how far it got before it was.
+ */
+public class ErrorBudgetExceededException extends Exception {
+    private final long attempted;
+    private final long failures;
+
+    public ErrorBudgetExceededException(long attempted, long failures) {
+        super("Error budget exceeded: " + failures + " failures in " + attempted + " attempts");
+        this.attempted = attempted;
+        this.failures = failures;
+    }
+
+    /**
+     * @return how many elements had been consumed when the stream was cut short.
+     */
+    public long getAttempted() { return attempted; }
+
+    /**
+     * @return how many of those elements were failures.
+     */
+    public long getFailures() { return failures; }
+}
@@ -0,0 +1,300 @@
+package com.spencerwi.either;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Reports failed outcomes without letting a flood of identical failures turn
+ *  into a flood of log output.
+ *
+ * Failures are deduplicated by {@link ExceptionSignature}. The first failure
+ *  with a given signature is passed to the {@link Sink} in full, exception and
+ *  all; after that, failures with that signature are only counted, and once
+ *  per summary interval the sink gets one line per signature that recurred,
+ *  with how many times it did. On the caller's thread, reporting a failure
+ *  costs working out its signature (which means a call to
+ *  {@link Throwable#getStackTrace}, copying the whole trace), a map lookup,
+ *  and a couple of {@link LongAdder} increments; everything that talks to the
+ *  sink happens on a single background drain thread, so a slow sink cannot
+ *  hold up callers.
+ *
+ * At most `maxSignatures` distinct signatures are tracked at once. A
+ *  signature that does not recur for a whole summary interval is forgotten,
+ *  freeing its slot (if it comes back, it is reported in full again), so
+ *  messages that carry ids cannot fill the table for good. While the table is
+ *  full, failures with new signatures are only counted, and the sink gets
+ *  that count with each summary. If first occurrences arrive faster than the
+ *  drain thread can hand them to the sink, the excess are counted as repeats
+ *  instead.
+ *
+ * Closing the reporter stops the drain thread and sends a final summary;
+ *  failures reported after that are ignored.
+ */
+public final class ErrorReporter implements AutoCloseable {
+    public static final int DEFAULT_MAX_SIGNATURES = 1000;
+    private static final int FIRST_OCCURRENCE_QUEUE_SIZE = 256;
+
+    private final Sink sink;
+    private final long intervalNanos;
+    private final int maxSignatures;
+    private final ConcurrentMap<ExceptionSignature, Counter> counters = new ConcurrentHashMap<>();
+    private final BlockingQueue<FirstOccurrence> firstOccurrences = new ArrayBlockingQueue<>(FIRST_OCCURRENCE_QUEUE_SIZE);
+    private final LongAdder untracked = new LongAdder();
+    private final LongAdder untrackedSinceLastSummary = new LongAdder();
+    private final Thread drainThread;
+    private volatile boolean closed = false;
+
+    private ErrorReporter(Sink sink, long intervalNanos, int maxSignatures) {
+        this.sink = sink;
+        this.intervalNanos = intervalNanos;
+        this.maxSignatures = maxSignatures;
+        this.drainThread = new Thread(this::drainUntilClosed, "either-error-reporter");
+        this.drainThread.setDaemon(true);
+    }
+
+    /**
+     * @param summaryInterval how often to summarize repeated failures.
+     * @param sink receives first occurrences and summaries.
+     * @return a started reporter tracking up to {@link #DEFAULT_MAX_SIGNATURES} signatures.
+     */
+    public static ErrorReporter start(Duration summaryInterval, Sink sink) {
+        return start(summaryInterval, sink, DEFAULT_MAX_SIGNATURES);
+    }
+
+    /**
+     * @param summaryInterval how often to summarize repeated failures.
+     * @param sink receives first occurrences and summaries.
+     * @param maxSignatures the most distinct signatures to track.
+     * @return a started reporter.
+     */
+    public static ErrorReporter start(Duration summaryInterval, Sink sink, int maxSignatures) {
+        if (summaryInterval.isNegative() || summaryInterval.isZero()) {
+            throw new IllegalArgumentException("summaryInterval must be positive");
+        }
+        if (maxSignatures < 1) {
+            throw new IllegalArgumentException("maxSignatures must be at least 1");
+        }
+        ErrorReporter reporter = new ErrorReporter(sink, summaryInterval.toNanos(), maxSignatures);
+        reporter.drainThread.start();
+        return reporter;
+    }
+
+    /**
+     * Reports `result`'s exception if it is an `Err`.
+     * @return `result`, for chaining.
+     */
+    public <R> Result<R> report(Result<R> result) {
+        if (result.isErr()) {
+            report(result.getException());
+        }
+        return result;
+    }
+
+    /**
+     * Reports `either`'s left-side exception if it is a Left.
+     * @return `either`, for chaining.
+     */
+    public <L extends Exception, R> Either<L, R> report(Either<L, R> either) {
+        if (either.isLeft()) {
+            report(either.getLeft());
+        }
+        return either;
+    }
+
+    /**
+     * Reports `exception`. A null exception (as in `Result.err(null)`) is reported under a signature of its own.
+     */
+    public void report(Exception exception) {
+        if (closed) {
+            return;
+        }
+        ExceptionSignature signature = ExceptionSignature.of(exception);
+        Counter counter = counters.get(signature);
+        if (counter == null) {
+            if (counters.size() >= maxSignatures) {
+                untracked.increment();
+                untrackedSinceLastSummary.increment();
+                return;
+            }
+            Counter fresh = new Counter();
+            counter = counters.putIfAbsent(signature, fresh);
+            if (counter == null) {
+                fresh.total.increment();
+                if (!firstOccurrences.offer(new FirstOccurrence(signature, exception))) {
+                    // The drain thread is behind; let this one show up in the next summary instead.
+                    fresh.sinceLastSummary.increment();
+                }
+                return;
+            }
+        }
+        counter.total.increment();
+        counter.sinceLastSummary.increment();
+    }
+
+    /**
+     * @return how many failures in all were not tracked because `maxSignatures` distinct signatures were already tracked.
+     */
+    public long untrackedCount() {
+        return untracked.sum();
+    }
+
+    /**
+     * Stops the drain thread, then hands any pending first occurrences and a final summary to the sink.
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        drainThread.interrupt();
+        try {
+            drainThread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        drainFirstOccurrences();
+        summarize();
+    }
+
+    private void drainUntilClosed() {
+        long nextSummary = System.nanoTime() + intervalNanos;
+        while (!closed) {
+            try {
+                long wait = nextSummary - System.nanoTime();
+                FirstOccurrence first = (wait > 0) ? firstOccurrences.poll(wait, TimeUnit.NANOSECONDS) : null;
+                if (first != null) {
+                    deliverFirst(first);
+                } else if (nextSummary - System.nanoTime() <= 0) {
+                    summarize();
+                    nextSummary = System.nanoTime() + intervalNanos;
+                }
+            } catch (InterruptedException e) {
+                // close() interrupts us, and finishes the draining itself.
+                return;
+            }
+        }
+    }
+
+    private void drainFirstOccurrences() {
+        FirstOccurrence first;
+        while ((first = firstOccurrences.poll()) != null) {
+            deliverFirst(first);
+        }
+    }
+
+    private void deliverFirst(FirstOccurrence first) {
+        try {
+            sink.first(first.signature, first.exception);
+        } catch (RuntimeException e) {
+            // A broken sink must not kill the drain thread.
+        }
+    }
+
+    private void summarize() {
+        Duration interval = Duration.ofNanos(intervalNanos);
+        for (Map.Entry<ExceptionSignature, Counter> entry : counters.entrySet()) {
+            Counter counter = entry.getValue();
+            long repeats = counter.sinceLastSummary.sumThenReset();
+            long total = counter.total.sum();
+            if (total == counter.totalAtLastSummary) {
+                // Quiet for a whole interval. A report racing with this may land in the removed counter and go
+                //  uncounted, but the next one is treated as a first occurrence, so the signature is not lost.
+                counters.remove(entry.getKey(), counter);
+                continue;
+            }
+            counter.totalAtLastSummary = total;
+            if (repeats > 0) {
+                try {
+                    sink.repeated(entry.getKey(), repeats, total, interval);
+                } catch (RuntimeException e) {
+                    // A broken sink must not kill the drain thread.
+                }
+            }
+        }
+        long untrackedRecently = untrackedSinceLastSummary.sumThenReset();
+        if (untrackedRecently > 0) {
+            try {
+                sink.untracked(untrackedRecently, untracked.sum(), interval);
+            } catch (RuntimeException e) {
+                // A broken sink must not kill the drain thread.
+            }
+        }
+    }
+
+    /**
+     * Receives what an {@link ErrorReporter} reports. Calls come from a single thread at a time.
+     */
+    public interface Sink {
+        /**
+         * Called once for the first failure with each signature.
+         */
+        void first(ExceptionSignature signature, Exception exception);
+
+        /**
+         * Called once per summary interval for each signature that recurred during it.
+         * @param repeats how many times the signature recurred since the last summary.
+         * @param total how many times the signature has occurred in all.
+         * @param interval the summary interval.
+         */
+        void repeated(ExceptionSignature signature, long repeats, long total, Duration interval);
+
+        /**
+         * Called once per summary interval if any failures went untracked during it, because `maxSignatures`
+         *  distinct signatures were already tracked.
+         * @param count how many failures went untracked since the last summary.
+         * @param total how many failures have gone untracked in all.
+         * @param interval the summary interval.
+         */
+        void untracked(long count, long total, Duration interval);
+
+        /**
+         * @return a sink that logs first occurrences with their stack traces at {@link Level#SEVERE}, and summaries
+         *  (including untracked failures) at {@link Level#WARNING}.
+         */
+        static Sink logTo(Logger logger) {
+            return new Sink() {
+                @Override
+                public void first(ExceptionSignature signature, Exception exception) {
+                    Class<?> exceptionClass = signature.getExceptionClass();
+                    logger.log(Level.SEVERE, "First occurrence of " + ((exceptionClass == null) ? "a null exception" : exceptionClass.getName()), exception);
+                }
+
+                @Override
+                public void repeated(ExceptionSignature signature, long repeats, long total, Duration interval) {
+                    logger.log(Level.WARNING, repeats + " more in the last " + interval.toMillis() + "ms (" + total + " in all): " + signature);
+                }
+
+                @Override
+                public void untracked(long count, long total, Duration interval) {
+                    logger.log(Level.WARNING, count + " failures in the last " + interval.toMillis() + "ms (" + total + " in all) had new signatures beyond the tracked maximum, and were only counted");
+                }
+            };
+        }
+    }
+
+    private static final class Counter {
+        final LongAdder total = new LongAdder();
+        final LongAdder sinceLastSummary = new LongAdder();
+        // Only touched by the drain thread (or by close(), once the drain thread has stopped).
+        long totalAtLastSummary = 0;
+    }
+
+    private static final class FirstOccurrence {
+        final ExceptionSignature signature;
+        final Exception exception;
+
+        FirstOccurrence(ExceptionSignature signature, Exception exception) {
+            this.signature = signature;
+            this.exception = exception;
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.spencerwi.either;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Identifies "the same failure" across many exception instances: two
+ *  exceptions have equal signatures if they are of the same class, have the
+ *  same message, and were thrown from the same top few stack frames. This is
+ *  useful for deduplicating floods of near-identical failures.
+ *
+ * A null "exception" (as in `Result.err(null)`) has a signature of its own,
+ *  with no exception class, message, or stack frames.
+ */
+public final class ExceptionSignature {
+    /**
+     * The number of stack frames compared by {@link #of(Throwable)}.
+     */
+    public static final int DEFAULT_TOP_FRAMES = 3;
+
+    private static final ExceptionSignature OF_NULL = new ExceptionSignature(null, null, new StackTraceElement[0]);
+
+    private final Class<?> exceptionClass;
+    private final String message;
+    private final StackTraceElement[] topFrames;
+    private final int hashCode;
+
+    private ExceptionSignature(Class<?> exceptionClass, String message, StackTraceElement[] topFrames) {
+        this.exceptionClass = exceptionClass;
+        this.message = message;
+        this.topFrames = topFrames;
+        this.hashCode = Objects.hash(exceptionClass, message, Arrays.hashCode(topFrames));
+    }
+
+    /**
+     * @return the signature of `throwable`, comparing its top {@value #DEFAULT_TOP_FRAMES} stack frames.
+     */
+    public static ExceptionSignature of(Throwable throwable) {
+        return of(throwable, DEFAULT_TOP_FRAMES);
+    }
+
+    /**
+     * @return the signature of `throwable`, comparing its top `topFrames` stack frames.
+     */
+    public static ExceptionSignature of(Throwable throwable, int topFrames) {
+        if (throwable == null) {
+            return OF_NULL;
+        }
+        StackTraceElement[] stackTrace = throwable.getStackTrace();
+        return new ExceptionSignature(
+                throwable.getClass(),
+                throwable.getMessage(),
+                Arrays.copyOf(stackTrace, Math.min(topFrames, stackTrace.length))
+        );
+    }
+
+    /**
+     * @return the exception's class, or null for the signature of a null exception.
+     */
+    public Class<?> getExceptionClass() { return exceptionClass; }
+    public String getMessage() { return message; }
+
+    @Override
+    public int hashCode() { return hashCode; }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other instanceof ExceptionSignature) {
+            final ExceptionSignature otherSignature = (ExceptionSignature) other;
+            return this.hashCode == otherSignature.hashCode
+                    && Objects.equals(this.exceptionClass, otherSignature.exceptionClass)
+                    && Objects.equals(this.message, otherSignature.message)
+                    && Arrays.equals(this.topFrames, otherSignature.topFrames);
+        } else {
+            return false;
+        }
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder description = new StringBuilder((exceptionClass == null) ? "null" : exceptionClass.getName());
+        if (message != null) {
+            description.append(": ").append(message);
+        }
+        for (StackTraceElement frame : topFrames) {
+            description.append("\n\tat ").append(frame);
+        }
+        return description.toString();
+    }
+}
@@ -0,0 +1,262 @@
+package com.spencerwi.either;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.stream.Collector;
+
+/**
+ * A summary of a stream of outcomes that holds a bounded amount of failure
+ *  information no matter how many failures there were.
+ *
+ * Successes are handed to a downstream collector as they arrive. Failures
+ *  are counted exactly, and grouped into buckets by a "signature" (for
+ *  exceptions, an {@link ExceptionSignature}); each bucket keeps an exact
+ *  count but only a small random sample of example failures. Once the
+ *  maximum number of buckets is reached, failures with new signatures are
+ *  only counted, in {@link #getUnbucketedFailureCount}.
+ * @param <L> the failure type.
+ * @param <D> the result type of the downstream collector for successes.
+ */
+public final class FailureSummary<L, D> {
+    public static final int DEFAULT_MAX_BUCKETS = 100;
+    public static final int DEFAULT_EXAMPLES_PER_BUCKET = 3;
+
+    private final long successCount;
+    private final long failureCount;
+    private final long unbucketedFailureCount;
+    private final D successes;
+    private final List<Bucket<L>> buckets;
+
+    private FailureSummary(long successCount, long failureCount, long unbucketedFailureCount, D successes, List<Bucket<L>> buckets) {
+        this.successCount = successCount;
+        this.failureCount = failureCount;
+        this.unbucketedFailureCount = unbucketedFailureCount;
+        this.successes = successes;
+        this.buckets = buckets;
+    }
+
+    /**
+     * Factory method for a collector that summarizes a stream of Results, bucketing exceptions by
+     * {@link ExceptionSignature}, with the default limits.
+     * @param successes the collector that `Ok` values are passed on to.
+     */
+    public static <R, D> Collector<Result<R>, ?, FailureSummary<Exception, D>> ofResults(Collector<? super R, ?, D> successes) {
+        return ofResults(successes, DEFAULT_MAX_BUCKETS, DEFAULT_EXAMPLES_PER_BUCKET);
+    }
+
+    /**
+     * Factory method for a collector that summarizes a stream of Results, bucketing exceptions by
+     * {@link ExceptionSignature}.
+     * @param successes the collector that `Ok` values are passed on to.
+     * @param maxBuckets the most distinct signatures to keep buckets for.
+     * @param examplesPerBucket the most example exceptions to keep per bucket.
+     */
+    public static <R, D> Collector<Result<R>, ?, FailureSummary<Exception, D>> ofResults(
+            Collector<? super R, ?, D> successes, int maxBuckets, int examplesPerBucket
+    ) {
+        return summarizing(
+                (Result<R> result, Accumulator<Exception, ?, D, R> accumulator) -> result.run(accumulator::addFailure, accumulator::addSuccess),
+                ExceptionSignature::of, successes, maxBuckets, examplesPerBucket
+        );
+    }
+
+    /**
+     * Factory method for a collector that summarizes a stream of Eithers, treating Lefts as failures and bucketing
+     * them by the result of `signature`, with the default limits.
+     * @param signature returns the value that identifies "the same" failure; it must have a sensible equals/hashCode.
+     * @param successes the collector that right-side values are passed on to.
+     */
+    public static <L, R, D> Collector<Either<L, R>, ?, FailureSummary<L, D>> ofEithers(
+            Function<? super L, ?> signature, Collector<? super R, ?, D> successes
+    ) {
+        return ofEithers(signature, successes, DEFAULT_MAX_BUCKETS, DEFAULT_EXAMPLES_PER_BUCKET);
+    }
+
+    /**
+     * Factory method for a collector that summarizes a stream of Eithers, treating Lefts as failures and bucketing
+     * them by the result of `signature`.
+     * @param signature returns the value that identifies "the same" failure; it must have a sensible equals/hashCode.
+     * @param successes the collector that right-side values are passed on to.
+     * @param maxBuckets the most distinct signatures to keep buckets for.
+     * @param examplesPerBucket the most example failures to keep per bucket.
+     */
+    public static <L, R, D> Collector<Either<L, R>, ?, FailureSummary<L, D>> ofEithers(
+            Function<? super L, ?> signature, Collector<? super R, ?, D> successes, int maxBuckets, int examplesPerBucket
+    ) {
+        return summarizing(
+                (Either<L, R> either, Accumulator<L, ?, D, R> accumulator) -> either.run(accumulator::addFailure, accumulator::addSuccess),
+                signature, successes, maxBuckets, examplesPerBucket
+        );
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T, L, R, A, D> Collector<T, ?, FailureSummary<L, D>> summarizing(
+            BiConsumer<T, Accumulator<L, ?, D, R>> add,
+            Function<? super L, ?> signature,
+            Collector<? super R, A, D> successes,
+            int maxBuckets,
+            int examplesPerBucket
+    ) {
+        if (maxBuckets < 0 || examplesPerBucket < 0) {
+            throw new IllegalArgumentException("maxBuckets and examplesPerBucket must not be negative");
+        }
+        return Collector.<T, Accumulator<L, A, D, R>, FailureSummary<L, D>>of(
+                () -> new Accumulator<>(signature, (Collector<R, A, D>) successes, maxBuckets, examplesPerBucket),
+                (accumulator, outcome) -> add.accept(outcome, accumulator),
+                Accumulator::combine,
+                Accumulator::finish
+        );
+    }
+
+    public long getSuccessCount() { return successCount; }
+    public long getFailureCount() { return failureCount; }
+
+    /**
+     * @return the number of failures that were counted but not bucketed, because the maximum number of buckets had already been reached.
+     */
+    public long getUnbucketedFailureCount() { return unbucketedFailureCount; }
+
+    /**
+     * @return the result of the downstream collector for successes.
+     */
+    public D getSuccesses() { return successes; }
+
+    /**
+     * @return the failure buckets, most frequent first.
+     */
+    public List<Bucket<L>> getBuckets() { return buckets; }
+
+    /**
+     * A group of failures that share a signature.
+     */
+    public static final class Bucket<L> {
+        private final Object signature;
+        private final long count;
+        private final List<L> examples;
+
+        private Bucket(Object signature, long count, List<L> examples) {
+            this.signature = signature;
+            this.count = count;
+            this.examples = examples;
+        }
+
+        public Object getSignature() { return signature; }
+        public long getCount() { return count; }
+
+        /**
+         * @return a uniform random sample of the failures in this bucket.
+         */
+        public List<L> getExamples() { return examples; }
+    }
+
+    private static final class Reservoir<L> {
+        long count = 0;
+        final List<L> examples = new ArrayList<>();
+
+        void add(L failure, int capacity) {
+            count++;
+            if (examples.size() < capacity) {
+                examples.add(failure);
+            } else {
+                long slot = ThreadLocalRandom.current().nextLong(count);
+                if (slot < capacity) {
+                    examples.set((int) slot, failure);
+                }
+            }
+        }
+
+        void merge(Reservoir<L> other, int capacity) {
+            // Draw from each side in proportion to how many failures it has seen, so the sample stays uniform.
+            List<L> mine = new ArrayList<>(examples);
+            List<L> theirs = new ArrayList<>(other.examples);
+            long myWeight = count;
+            long theirWeight = other.count;
+            examples.clear();
+            while (examples.size() < capacity && (!mine.isEmpty() || !theirs.isEmpty())) {
+                boolean takeMine = theirs.isEmpty()
+                        || (!mine.isEmpty() && ThreadLocalRandom.current().nextLong(myWeight + theirWeight) < myWeight);
+                examples.add(takeMine ? mine.remove(mine.size() - 1) : theirs.remove(theirs.size() - 1));
+            }
+            count += other.count;
+        }
+    }
+
+    private static final class Accumulator<L, A, D, R> {
+        private final Function<? super L, ?> signature;
+        private final Collector<R, A, D> successCollector;
+        private final int maxBuckets;
+        private final int examplesPerBucket;
+        private A successes;
+        private final Map<Object, Reservoir<L>> buckets = new HashMap<>();
+        private long successCount = 0;
+        private long failureCount = 0;
+        private long unbucketedFailureCount = 0;
+
+        Accumulator(Function<? super L, ?> signature, Collector<R, A, D> successCollector, int maxBuckets, int examplesPerBucket) {
+            this.signature = signature;
+            this.successCollector = successCollector;
+            this.maxBuckets = maxBuckets;
+            this.examplesPerBucket = examplesPerBucket;
+            this.successes = successCollector.supplier().get();
+        }
+
+        void addSuccess(R success) {
+            successCount++;
+            successCollector.accumulator().accept(successes, success);
+        }
+
+        void addFailure(L failure) {
+            failureCount++;
+            Object key = signature.apply(failure);
+            Reservoir<L> bucket = buckets.get(key);
+            if (bucket == null) {
+                if (buckets.size() >= maxBuckets) {
+                    unbucketedFailureCount++;
+                    return;
+                }
+                bucket = new Reservoir<>();
+                buckets.put(key, bucket);
+            }
+            bucket.add(failure, examplesPerBucket);
+        }
+
+        Accumulator<L, A, D, R> combine(Accumulator<L, A, D, R> other) {
+            successes = successCollector.combiner().apply(successes, other.successes);
+            successCount += other.successCount;
+            failureCount += other.failureCount;
+            unbucketedFailureCount += other.unbucketedFailureCount;
+            for (Map.Entry<Object, Reservoir<L>> entry : other.buckets.entrySet()) {
+                Reservoir<L> existing = buckets.get(entry.getKey());
+                if (existing != null) {
+                    existing.merge(entry.getValue(), examplesPerBucket);
+                } else if (buckets.size() < maxBuckets) {
+                    buckets.put(entry.getKey(), entry.getValue());
+                } else {
+                    unbucketedFailureCount += entry.getValue().count;
+                }
+            }
+            return this;
+        }
+
+        FailureSummary<L, D> finish() {
+            List<Bucket<L>> finishedBuckets = new ArrayList<>(buckets.size());
+            for (Map.Entry<Object, Reservoir<L>> entry : buckets.entrySet()) {
+                Reservoir<L> reservoir = entry.getValue();
+                finishedBuckets.add(new Bucket<>(entry.getKey(), reservoir.count, Collections.unmodifiableList(reservoir.examples)));
+            }
+            finishedBuckets.sort(Comparator.comparingLong((Bucket<L> bucket) -> bucket.count).reversed());
+            return new FailureSummary<>(
+                    successCount, failureCount, unbucketedFailureCount,
+                    successCollector.finisher().apply(successes),
+                    Collections.unmodifiableList(finishedBuckets)
+            );
+        }
+    }
+}
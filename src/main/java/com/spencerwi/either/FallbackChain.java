@@ -0,0 +1,132 @@
+package com.spencerwi.either;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Tries a list of providers for the same value in order of preference,
+ *  returning the first `Ok`, and remembers which provider last worked so that
+ *  an outage of a preferred provider does not add a failed call to every
+ *  request.
+ *
+ * Each attempt starts at the provider that most recently succeeded, then
+ *  falls through the providers after it, and finally wraps around to the
+ *  higher-priority ones before giving up. While a lower-priority provider is
+ *  in use, the higher-priority providers are probed on a background executor
+ *  at most once per probe interval; the first one that answers with an `Ok`
+ *  becomes the starting point again. Probes are only triggered by attempts,
+ *  so an idle chain does no work.
+ *
+ * If every provider fails, the `Err` contains an
+ *  {@link AllAttemptsFailedException} listing each failure in the order they
+ *  were tried. A `FallbackChain` is meant to be shared by every caller.
+ */
+public final class FallbackChain<R> {
+    private final List<ExceptionThrowingSupplier<R>> providers;
+    private final Executor probeExecutor;
+    private final long probeIntervalNanos;
+    private final AtomicInteger preferred = new AtomicInteger(0);
+    private final AtomicLong lastProbeNanos;
+    private final AtomicBoolean probing = new AtomicBoolean(false);
+
+    private FallbackChain(List<ExceptionThrowingSupplier<R>> providers, Executor probeExecutor, long probeIntervalNanos) {
+        this.providers = providers;
+        this.probeExecutor = probeExecutor;
+        this.probeIntervalNanos = probeIntervalNanos;
+        this.lastProbeNanos = new AtomicLong(System.nanoTime());
+    }
+
+    /**
+     * @param probeExecutor runs background probes of higher-priority providers.
+     * @param probeInterval the least time between two probes.
+     * @param providers the providers, most preferred first.
+     */
+    public static <R> FallbackChain<R> of(Executor probeExecutor, Duration probeInterval, List<? extends ExceptionThrowingSupplier<R>> providers) {
+        if (providers.isEmpty()) {
+            throw new IllegalArgumentException("at least one provider is required");
+        }
+        if (probeInterval.isNegative()) {
+            throw new IllegalArgumentException("probeInterval must not be negative");
+        }
+        return new FallbackChain<>(new ArrayList<>(providers), probeExecutor, probeInterval.toNanos());
+    }
+
+    /**
+     * A varargs convenience for {@link #of(Executor, Duration, List)}.
+     */
+    @SafeVarargs
+    public static <R> FallbackChain<R> of(Executor probeExecutor, Duration probeInterval, ExceptionThrowingSupplier<R>... providers) {
+        return of(probeExecutor, probeInterval, Arrays.asList(providers));
+    }
+
+    /**
+     * Tries the providers, starting from the one that last succeeded.
+     * @return the first `Ok`; otherwise, an `Err` wrapping an {@link AllAttemptsFailedException}.
+     */
+    public Result<R> attempt() {
+        int start = preferred.get();
+        if (start > 0) {
+            maybeProbe(start);
+        }
+        List<Exception> failures = new ArrayList<>();
+        int count = providers.size();
+        for (int offset = 0; offset < count; offset++) {
+            int index = (start + offset) % count;
+            Result<R> result = Result.attempt(providers.get(index));
+            if (result.isOk()) {
+                // Unless a probe has found a better provider since this attempt started.
+                preferred.compareAndSet(start, index);
+                return result;
+            }
+            failures.add(result.getException());
+        }
+        return Result.err(new AllAttemptsFailedException(failures));
+    }
+
+    /**
+     * @return the index of the provider that the next attempt will start from.
+     */
+    public int preferredIndex() {
+        return preferred.get();
+    }
+
+    private void maybeProbe(int current) {
+        long last = lastProbeNanos.get();
+        long now = System.nanoTime();
+        if (now - last < probeIntervalNanos || !lastProbeNanos.compareAndSet(last, now)) {
+            return;
+        }
+        if (!probing.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            probeExecutor.execute(() -> {
+                try {
+                    probe(current);
+                } finally {
+                    probing.set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // Skip this round of probing; the next interval will try again.
+            probing.set(false);
+        }
+    }
+
+    private void probe(int current) {
+        for (int index = 0; index < current; index++) {
+            if (Result.attempt(providers.get(index)).isOk()) {
+                // Only move up: an attempt may have switched to an even better provider in the meantime.
+                preferred.accumulateAndGet(index, Math::min);
+                return;
+            }
+        }
+    }
+}
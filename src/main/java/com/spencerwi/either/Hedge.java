@@ -0,0 +1,204 @@
+package com.spencerwi.either;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs several alternative ways of computing the same value (for example,
+ *  the same request against different replicas) and returns the first `Ok`.
+ *
+ * A "race" launches every alternative at once. A "hedge" launches the first
+ *  alternative, and only launches the next one if no answer has arrived after
+ *  a delay -- either a fixed delay, or a percentile of recently-observed
+ *  latencies -- so that slow outliers are cut off without doubling the load
+ *  in the common case. A failed alternative immediately launches the next.
+ *  The latency learned from is the time from the start of each call to its
+ *  first `Ok`, whichever alternative produced it; timing only the winner's
+ *  own run would leave out slow primaries that lost to a backup, and drag
+ *  the learned delay below the real percentile.
+ *
+ * As soon as one alternative succeeds, the others are cancelled (and
+ *  interrupted if they are running). If every alternative fails, the `Err`
+ *  contains an {@link AllAttemptsFailedException} listing each failure. If
+ *  the executor rejects the first alternative, the `Err` wraps an
+ *  {@link AttemptRejectedException}; if it rejects a later one, no more are
+ *  launched, and the call waits on those already running.
+ *
+ * A `Hedge` is safe to share between threads; percentile-based hedges are
+ *  meant to be shared so that they can learn from every call.
+ */
+public final class Hedge {
+    private static final int LATENCY_WINDOW_SIZE = 256;
+    private static final int MIN_LATENCY_SAMPLES = 16;
+
+    private final long fixedDelayNanos;
+    private final double percentile;
+    private final long[] latencyWindow;
+    private int latencySamples = 0;
+    private int nextLatencySlot = 0;
+    private long cachedPercentileNanos = -1;
+
+    private Hedge(long fixedDelayNanos, double percentile, long[] latencyWindow) {
+        this.fixedDelayNanos = fixedDelayNanos;
+        this.percentile = percentile;
+        this.latencyWindow = latencyWindow;
+    }
+
+    /**
+     * @return a `Hedge` that launches every alternative at once.
+     */
+    public static Hedge race() {
+        return after(Duration.ZERO);
+    }
+
+    /**
+     * @param delay how long to wait for an answer before launching the next alternative.
+     * @return a `Hedge` that launches alternatives one `delay` apart.
+     */
+    public static Hedge after(Duration delay) {
+        if (delay.isNegative()) {
+            throw new IllegalArgumentException("delay must not be negative");
+        }
+        return new Hedge(delay.toNanos(), Double.NaN, null);
+    }
+
+    /**
+     * @param percentile the latency percentile (between 0 and 1, exclusive) after which to launch the next alternative, such as 0.95.
+     * @param initialDelay the delay to use until enough latencies have been observed.
+     * @return a `Hedge` whose delay tracks the given percentile of recently-observed times for a call to produce an `Ok`.
+     */
+    public static Hedge afterPercentile(double percentile, Duration initialDelay) {
+        if (!(percentile > 0 && percentile < 1)) {
+            throw new IllegalArgumentException("percentile must be between 0 and 1");
+        }
+        if (initialDelay.isNegative()) {
+            throw new IllegalArgumentException("initialDelay must not be negative");
+        }
+        return new Hedge(initialDelay.toNanos(), percentile, new long[LATENCY_WINDOW_SIZE]);
+    }
+
+    /**
+     * @return the delay that the next call to {@link #attempt} will wait before launching a backup.
+     */
+    public Duration currentDelay() {
+        return Duration.ofNanos(currentDelayNanos());
+    }
+
+    /**
+     * Runs `alternatives` on `executor` according to this hedging policy.
+     * @param executor runs the alternatives; it needs to be able to run as many at once as you want in flight.
+     * @param alternatives the alternative ways of computing the value, in order of preference.
+     * @return the first `Ok` produced by any alternative; otherwise, an `Err` wrapping an {@link AllAttemptsFailedException}.
+     */
+    public <R> Result<R> attempt(Executor executor, List<? extends ExceptionThrowingSupplier<R>> alternatives) {
+        if (alternatives.isEmpty()) {
+            throw new IllegalArgumentException("at least one alternative is required");
+        }
+        CompletionService<Result<R>> completionService = new ExecutorCompletionService<>(executor);
+        List<Future<Result<R>>> launched = new ArrayList<>(alternatives.size());
+        List<Exception> failures = new ArrayList<>();
+        long delayNanos = currentDelayNanos();
+        long start = System.nanoTime();
+        int outstanding = 0;
+        boolean rejected = false;
+        try {
+            try {
+                launched.add(completionService.submit(() -> Result.attempt(alternatives.get(0))));
+            } catch (RejectedExecutionException e) {
+                return Result.err(new AttemptRejectedException("Alternative rejected by executor: " + e.getMessage()));
+            }
+            outstanding++;
+            while (outstanding > 0) {
+                boolean moreToLaunch = !rejected && launched.size() < alternatives.size();
+                Future<Result<R>> done = moreToLaunch
+                        ? completionService.poll(delayNanos, TimeUnit.NANOSECONDS)
+                        : completionService.take();
+                if (done != null) {
+                    outstanding--;
+                    Result<R> result = getCompleted(done);
+                    if (result.isOk()) {
+                        recordLatency(System.nanoTime() - start);
+                        return result;
+                    }
+                    failures.add(result.getException());
+                }
+                // Launch the next alternative if this one is taking too long or has already failed.
+                if (moreToLaunch) {
+                    ExceptionThrowingSupplier<R> next = alternatives.get(launched.size());
+                    try {
+                        launched.add(completionService.submit(() -> Result.attempt(next)));
+                        outstanding++;
+                    } catch (RejectedExecutionException e) {
+                        // Stop hedging, and let the alternatives already running finish.
+                        failures.add(new AttemptRejectedException("Alternative rejected by executor: " + e.getMessage()));
+                        rejected = true;
+                    }
+                }
+            }
+            return Result.err(new AllAttemptsFailedException(failures));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Result.err(e);
+        } finally {
+            for (Future<Result<R>> future : launched) {
+                future.cancel(true);
+            }
+        }
+    }
+
+    /**
+     * A varargs convenience for {@link #attempt(Executor, List)}.
+     */
+    @SafeVarargs
+    public final <R> Result<R> attempt(Executor executor, ExceptionThrowingSupplier<R>... alternatives) {
+        return attempt(executor, Arrays.asList(alternatives));
+    }
+
+    private static <R> Result<R> getCompleted(Future<Result<R>> done) {
+        try {
+            return done.get();
+        } catch (ExecutionException e) {
+            // Attempts capture every Exception in their Result, so only Errors can end up here.
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            return Result.err(e);
+        } catch (InterruptedException e) {
+            // The future is already done, so get() cannot block; keep the interrupt for the caller.
+            Thread.currentThread().interrupt();
+            return Result.err(e);
+        }
+    }
+
+    private synchronized long currentDelayNanos() {
+        if (latencyWindow == null || latencySamples < MIN_LATENCY_SAMPLES) {
+            return fixedDelayNanos;
+        }
+        if (cachedPercentileNanos < 0) {
+            int size = latencySamples;
+            long[] sorted = Arrays.copyOf(latencyWindow, size);
+            Arrays.sort(sorted);
+            cachedPercentileNanos = sorted[(int) Math.min(size - 1, Math.floor(percentile * size))];
+        }
+        return cachedPercentileNanos;
+    }
+
+    private synchronized void recordLatency(long elapsedNanos) {
+        if (latencyWindow == null) {
+            return;
+        }
+        latencyWindow[nextLatencySlot] = elapsedNanos;
+        nextLatencySlot = (nextLatencySlot + 1) % latencyWindow.length;
+        latencySamples = Math.min(latencySamples + 1, latencyWindow.length);
+        cachedPercentileNanos = -1;
+    }
+}
@@ -0,0 +1,26 @@
+package com.spencerwi.either;
+
+/**
+ * Stands in for a failure that was read back from an {@link OutcomeJournal}.
+ *  Journals keep only the class name and message of the original failure,
+ *  so this exception has no stack trace or cause of its own.
+ */
+public class JournaledFailureException extends Exception {
+    private final String originalClassName;
+
+    public JournaledFailureException(String originalClassName, String message) {
+        super(message, null, false, false);
+        this.originalClassName = originalClassName;
+    }
+
+    /**
+     * @return the class name of the original failure (for a Left, the class of the left-side value).
+     */
+    public String getOriginalClassName() { return originalClassName; }
+
+    @Override
+    public String toString() {
+        String message = getMessage();
+        return (message == null) ? originalClassName : originalClassName + ": " + message;
+    }
+}
@@ -0,0 +1,141 @@
+package com.spencerwi.either;
+
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * A lightweight {@link ResourcePool} that keeps up to `maxIdle` idle
+ *  resources on a lock-free stack, and creates new ones on demand when none
+ *  are idle.
+ *
+ * Borrowing never blocks: if no resource is idle, one is created on the
+ *  caller's thread, so the number of resources in use at once is not capped
+ *  (pair it with a {@link Bulkhead} for that). Released resources beyond
+ *  `maxIdle` are destroyed instead of kept. The most recently released
+ *  resource is handed out first, so that a few warm resources are reused
+ *  rather than every idle one being cycled through.
+ * @param <T> the resource type.
+ */
+public final class LockFreePool<T> implements ResourcePool<T>, AutoCloseable {
+    private final ExceptionThrowingSupplier<T> factory;
+    private final Consumer<? super T> destroy;
+    private final int maxIdle;
+    private final ConcurrentLinkedDeque<T> idle = new ConcurrentLinkedDeque<>();
+    private final AtomicInteger idleCount = new AtomicInteger();
+    private final LongAdder created = new LongAdder();
+    private final LongAdder destroyed = new LongAdder();
+    private volatile boolean closed = false;
+
+    private LockFreePool(ExceptionThrowingSupplier<T> factory, Consumer<? super T> destroy, int maxIdle) {
+        this.factory = factory;
+        this.destroy = destroy;
+        this.maxIdle = maxIdle;
+    }
+
+    /**
+     * @param factory creates a new resource.
+     * @param maxIdle the most idle resources to keep.
+     * @return a pool that simply drops resources it does not keep.
+     */
+    public static <T> LockFreePool<T> of(ExceptionThrowingSupplier<T> factory, int maxIdle) {
+        return of(factory, maxIdle, resource -> { });
+    }
+
+    /**
+     * @param factory creates a new resource.
+     * @param maxIdle the most idle resources to keep.
+     * @param destroy disposes of a resource that is invalidated or not kept; exceptions it throws are ignored.
+     * @return a pool.
+     */
+    public static <T> LockFreePool<T> of(ExceptionThrowingSupplier<T> factory, int maxIdle, Consumer<? super T> destroy) {
+        if (maxIdle < 0) {
+            throw new IllegalArgumentException("maxIdle must not be negative");
+        }
+        return new LockFreePool<>(factory, destroy, maxIdle);
+    }
+
+    @Override
+    public T borrow() throws Exception {
+        if (closed) {
+            throw new IllegalStateException("Pool is closed");
+        }
+        T resource = idle.pollFirst();
+        if (resource != null) {
+            idleCount.decrementAndGet();
+            return resource;
+        }
+        T fresh = factory.get();
+        created.increment();
+        return fresh;
+    }
+
+    @Override
+    public void release(T resource) {
+        if (closed) {
+            destroy(resource);
+            return;
+        }
+        if (idleCount.incrementAndGet() > maxIdle) {
+            idleCount.decrementAndGet();
+            destroy(resource);
+            return;
+        }
+        idle.offerFirst(resource);
+        // close() may have drained the stack between our check and our push.
+        if (closed && idle.remove(resource)) {
+            idleCount.decrementAndGet();
+            destroy(resource);
+        }
+    }
+
+    @Override
+    public void invalidate(T resource) {
+        destroy(resource);
+    }
+
+    /**
+     * @return the number of idle resources currently kept.
+     */
+    public int idleCount() {
+        return idleCount.get();
+    }
+
+    /**
+     * @return the total number of resources created so far.
+     */
+    public long createdCount() {
+        return created.sum();
+    }
+
+    /**
+     * @return the total number of resources destroyed so far.
+     */
+    public long destroyedCount() {
+        return destroyed.sum();
+    }
+
+    /**
+     * Destroys every idle resource. Resources still borrowed are destroyed when they are given back, and
+     *  borrowing afterwards throws an {@link IllegalStateException}.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        T resource;
+        while ((resource = idle.pollFirst()) != null) {
+            idleCount.decrementAndGet();
+            destroy(resource);
+        }
+    }
+
+    private void destroy(T resource) {
+        destroyed.increment();
+        try {
+            destroy.accept(resource);
+        } catch (RuntimeException e) {
+            // The resource is being thrown away anyway.
+        }
+    }
+}
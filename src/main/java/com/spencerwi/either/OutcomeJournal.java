@@ -0,0 +1,433 @@
+package com.spencerwi.either;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.zip.CRC32;
+
+/**
+ * An append-only log of per-item outcomes, so that a long-running batch job
+ *  can pick up where it left off after a restart.
+ *
+ * Each call to {@link #record} appends a checksummed record for one key to a
+ *  memory-mapped file. Opening an existing journal replays it, keeping the
+ *  latest outcome for each key; a torn or corrupt record at the end (from a
+ *  crash mid-write) is discarded, along with anything after it. Use
+ *  {@link #attempt} to skip keys that already succeeded, or
+ *  {@link #remaining} to find the inputs that still need to run.
+ *
+ * Writes land in the OS page cache immediately, so they survive the process
+ *  crashing; they are only forced to the disk every `syncEvery` records, on
+ *  {@link #sync}, and on {@link #close}, so a power failure can lose up to
+ *  `syncEvery - 1` records. Once superseded records make up more than half of
+ *  the log, it is compacted down to the latest outcome per key.
+ *
+ * Failures are journaled as their class name and message, and read back
+ *  (after reopening) as {@link JournaledFailureException}s; an `Err` holding
+ *  null is journaled with the class name "null". A journal is safe to share
+ *  between threads, but must only be opened by one process at a time.
+ *
+ * Java cannot unmap a memory-mapped file on demand, and some platforms
+ *  (notably Windows) refuse to truncate or replace a file that is still
+ *  mapped. There, closing the journal zeroes its preallocated tail instead
+ *  of trimming it (replay stops at the zeroes, and the next open trims
+ *  them), and compaction gives up, leaving the log as it is: automatic
+ *  compaction is then switched off for this journal, and {@link #compact}
+ *  throws.
+ * @param <K> the key that identifies an item.
+ * @param <R> the type of a successful outcome.
+ */
+public final class OutcomeJournal<K, R> implements AutoCloseable {
+    public static final int DEFAULT_SYNC_EVERY = 1000;
+    static final int MIN_COMPACTION_RECORDS = 1024;
+    private static final int REGION_BYTES = 1 << 24;
+    private static final int HEADER_BYTES = 8;
+    private static final byte OK = 0;
+    private static final byte ERR = 1;
+
+    private final Path file;
+    private final ElementCodec<K> keyCodec;
+    private final ElementCodec<R> valueCodec;
+    private final int syncEvery;
+    private final Map<K, Result<R>> latest;
+    private final ByteArrayOutputStream scratch = new ByteArrayOutputStream();
+    private final DataOutputStream scratchOut = new DataOutputStream(scratch);
+    private final CRC32 crc = new CRC32();
+
+    private FileChannel channel;
+    private MappedByteBuffer region;
+    private long regionStart;
+    private long writePosition;
+    private long recordCount;
+    private int unsynced = 0;
+    private boolean autoCompaction = true;
+    private boolean closed = false;
+
+    private OutcomeJournal(Path file, ElementCodec<K> keyCodec, ElementCodec<R> valueCodec, int syncEvery, Map<K, Result<R>> latest, long validLength, long recordCount) throws IOException {
+        this.file = file;
+        this.keyCodec = keyCodec;
+        this.valueCodec = valueCodec;
+        this.syncEvery = syncEvery;
+        this.latest = latest;
+        this.recordCount = recordCount;
+        this.channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        // Drop any torn record at the end, so that new records follow the last good one.
+        trimTo(validLength);
+        this.writePosition = validLength;
+    }
+
+    /**
+     * Opens (or creates) the journal at `file`, forcing writes to disk every {@link #DEFAULT_SYNC_EVERY} records.
+     * @see #open(Path, ElementCodec, ElementCodec, int)
+     */
+    public static <K, R> OutcomeJournal<K, R> open(Path file, ElementCodec<K> keyCodec, ElementCodec<R> valueCodec) throws IOException {
+        return open(file, keyCodec, valueCodec, DEFAULT_SYNC_EVERY);
+    }
+
+    /**
+     * Opens (or creates) the journal at `file` and replays it.
+     * @param file the journal file.
+     * @param keyCodec encodes keys; keys must have a sensible equals/hashCode.
+     * @param valueCodec encodes successful outcomes.
+     * @param syncEvery how many records to write between forcing them to disk; 1 forces every record.
+     * @throws IOException if the file cannot be opened or read.
+     */
+    public static <K, R> OutcomeJournal<K, R> open(Path file, ElementCodec<K> keyCodec, ElementCodec<R> valueCodec, int syncEvery) throws IOException {
+        if (syncEvery < 1) {
+            throw new IllegalArgumentException("syncEvery must be at least 1");
+        }
+        if (!Files.exists(file)) {
+            Files.createFile(file);
+        }
+        Map<K, Result<R>> latest = new LinkedHashMap<>();
+        long fileLength = Files.size(file);
+        long validLength = 0;
+        long recordCount = 0;
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(file))) {
+            DataInputStream data = new DataInputStream(in);
+            CRC32 crc = new CRC32();
+            while (true) {
+                byte[] payload = readRecord(data, fileLength - validLength, crc);
+                if (payload == null) {
+                    break;
+                }
+                DataInputStream payloadIn = new DataInputStream(new ByteArrayInputStream(payload));
+                byte kind = payloadIn.readByte();
+                K key = keyCodec.read(payloadIn);
+                if (kind == OK) {
+                    latest.put(key, Result.ok(valueCodec.read(payloadIn)));
+                } else {
+                    String className = ElementCodec.strings().read(payloadIn);
+                    String message = ElementCodec.strings().read(payloadIn);
+                    latest.put(key, Result.err(new JournaledFailureException(className, message)));
+                }
+                validLength += HEADER_BYTES + payload.length;
+                recordCount++;
+            }
+        }
+        OutcomeJournal<K, R> journal = new OutcomeJournal<>(file, keyCodec, valueCodec, syncEvery, latest, validLength, recordCount);
+        journal.compactIfWorthwhile();
+        return journal;
+    }
+
+    /**
+     * @param remaining the number of bytes left in the file, which bounds the length of a valid record.
+     * @return the payload of the next record, or null at the end of the log or at the first torn or corrupt record.
+     */
+    private static byte[] readRecord(DataInputStream in, long remaining, CRC32 crc) throws IOException {
+        try {
+            int length = in.readInt();
+            if (length <= 0 || length > remaining - HEADER_BYTES) {
+                return null;
+            }
+            int checksum = in.readInt();
+            byte[] payload = new byte[length];
+            in.readFully(payload);
+            crc.reset();
+            crc.update(payload, 0, length);
+            return ((int) crc.getValue() == checksum) ? payload : null;
+        } catch (EOFException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Appends `outcome` as the latest outcome for `key`.
+     * @throws IOException if the record cannot be written.
+     */
+    public synchronized void record(K key, Result<R> outcome) throws IOException {
+        ensureOpen();
+        encode(key, outcome);
+        append();
+        latest.put(key, outcome);
+        compactIfWorthwhile();
+    }
+
+    /**
+     * Appends `outcome` as the latest outcome for `key`; a Left is journaled as a failure whose message is the
+     * left-side value's `toString()`.
+     * @throws IOException if the record cannot be written.
+     */
+    public synchronized void record(K key, Either<?, R> outcome) throws IOException {
+        if (outcome.isRight()) {
+            record(key, Result.ok(outcome.getRight()));
+        } else {
+            Object left = outcome.getLeft();
+            String className = (left == null) ? "null" : left.getClass().getName();
+            record(key, Result.err(new JournaledFailureException(className, String.valueOf(left))));
+        }
+    }
+
+    /**
+     * Encodes a record's payload into `scratch`.
+     */
+    private void encode(K key, Result<R> outcome) throws IOException {
+        scratch.reset();
+        if (outcome.isOk()) {
+            scratchOut.writeByte(OK);
+            keyCodec.write(key, scratchOut);
+            valueCodec.write(outcome.getResult(), scratchOut);
+        } else {
+            Exception failure = outcome.getException();
+            String className;
+            if (failure == null) {
+                className = "null";
+            } else if (failure instanceof JournaledFailureException) {
+                className = ((JournaledFailureException) failure).getOriginalClassName();
+            } else {
+                className = failure.getClass().getName();
+            }
+            scratchOut.writeByte(ERR);
+            keyCodec.write(key, scratchOut);
+            ElementCodec.strings().write(className, scratchOut);
+            ElementCodec.strings().write((failure == null) ? null : failure.getMessage(), scratchOut);
+        }
+    }
+
+    /**
+     * Runs `function` on `key` and journals its outcome, unless the journal already holds an `Ok` for `key`, in
+     * which case that is returned without running anything. The function runs without holding the journal's lock.
+     * @throws IOException if the outcome cannot be journaled.
+     */
+    public Result<R> attempt(K key, ExceptionThrowingFunction<K, R> function) throws IOException {
+        synchronized (this) {
+            ensureOpen();
+            Result<R> previous = latest.get(key);
+            if (previous != null && previous.isOk()) {
+                return previous;
+            }
+        }
+        Result<R> outcome = Result.attempt(() -> function.apply(key));
+        record(key, outcome);
+        return outcome;
+    }
+
+    /**
+     * @return the latest journaled outcome for `key`, if there is one.
+     */
+    public synchronized Optional<Result<R>> get(K key) {
+        return Optional.ofNullable(latest.get(key));
+    }
+
+    /**
+     * @return true if the latest journaled outcome for `key` is an `Ok`.
+     */
+    public synchronized boolean isDone(K key) {
+        Result<R> outcome = latest.get(key);
+        return outcome != null && outcome.isOk();
+    }
+
+    /**
+     * @return the latest journaled outcome for every key, in the order the keys were first journaled.
+     */
+    public synchronized Map<K, Result<R>> replay() {
+        return Collections.unmodifiableMap(new LinkedHashMap<>(latest));
+    }
+
+    /**
+     * @return the keys in `inputs`, in order, that have not been journaled or whose latest outcome is an `Err`.
+     */
+    public synchronized List<K> remaining(Iterable<K> inputs) {
+        List<K> remaining = new ArrayList<>();
+        for (K input : inputs) {
+            if (!isDone(input)) {
+                remaining.add(input);
+            }
+        }
+        return remaining;
+    }
+
+    /**
+     * @return the number of distinct keys in the journal.
+     */
+    public synchronized int size() { return latest.size(); }
+
+    /**
+     * @return the number of records in the log, including superseded ones.
+     */
+    public synchronized long recordCount() { return recordCount; }
+
+    /**
+     * Forces every record written so far to the disk.
+     */
+    public synchronized void sync() throws IOException {
+        ensureOpen();
+        if (region != null && unsynced > 0) {
+            region.force();
+        }
+        unsynced = 0;
+    }
+
+    /**
+     * Rewrites the log so that it holds only the latest outcome for each key. The new log is written beside the
+     * old one and atomically moved over it, so a crash mid-compaction leaves the old log intact.
+     * @throws IOException if the compacted log could not be written or moved into place (which is always the case on
+     *  platforms that refuse to replace a mapped file); the old log is then kept, and the journal stays usable.
+     */
+    public synchronized void compact() throws IOException {
+        ensureOpen();
+        sync();
+        Path compacted = file.resolveSibling(file.getFileName() + ".compacting");
+        long length = 0;
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(compacted)))) {
+            for (Map.Entry<K, Result<R>> entry : latest.entrySet()) {
+                encode(entry.getKey(), entry.getValue());
+                byte[] payload = scratch.toByteArray();
+                out.writeInt(payload.length);
+                out.writeInt(checksum(payload));
+                out.write(payload);
+                length += HEADER_BYTES + payload.length;
+            }
+        }
+        try (FileChannel compactedChannel = FileChannel.open(compacted, StandardOpenOption.WRITE)) {
+            compactedChannel.force(true);
+        }
+        // Appends after this map a fresh region, of the new file if the move succeeds.
+        region = null;
+        channel.close();
+        try {
+            Files.move(compacted, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            // Most likely the old log is still mapped; carry on appending to it.
+            Files.deleteIfExists(compacted);
+            channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            throw e;
+        }
+        channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        writePosition = length;
+        recordCount = latest.size();
+    }
+
+    /**
+     * Forces outstanding records to disk, trims the preallocated tail of the file, and closes it.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        try {
+            sync();
+            region = null;
+            trimTo(writePosition);
+            channel.force(false);
+        } finally {
+            closed = true;
+            channel.close();
+        }
+    }
+
+    private void compactIfWorthwhile() throws IOException {
+        long superseded = recordCount - latest.size();
+        if (autoCompaction && superseded >= MIN_COMPACTION_RECORDS && superseded > latest.size()) {
+            try {
+                compact();
+            } catch (IOException e) {
+                // Don't fail the record that triggered this, or retry on every record after it.
+                autoCompaction = false;
+            }
+        }
+    }
+
+    /**
+     * Cuts the file down to `length` bytes or, where a live mapping of the file prevents that, zeroes everything past
+     * `length`, which replay treats as the end of the log.
+     */
+    private void trimTo(long length) throws IOException {
+        try {
+            channel.truncate(length);
+        } catch (IOException e) {
+            ByteBuffer zeroes = ByteBuffer.allocate(64 * 1024);
+            long size = channel.size();
+            for (long position = length; position < size; position += zeroes.capacity()) {
+                ((Buffer) zeroes).clear();
+                ((Buffer) zeroes).limit((int) Math.min(zeroes.capacity(), size - position));
+                while (zeroes.hasRemaining()) {
+                    channel.write(zeroes, position + zeroes.position());
+                }
+            }
+        }
+    }
+
+    private int checksum(byte[] payload) {
+        crc.reset();
+        crc.update(payload, 0, payload.length);
+        return (int) crc.getValue();
+    }
+
+    /**
+     * Appends the record in `scratch` at the end of the log, mapping a new region of the file if needed.
+     */
+    private void append() throws IOException {
+        byte[] payload = scratch.toByteArray();
+        int recordLength = HEADER_BYTES + payload.length;
+        if (region == null || writePosition + recordLength > regionStart + region.capacity()) {
+            if (region != null && unsynced > 0) {
+                region.force();
+                unsynced = 0;
+            }
+            region = channel.map(FileChannel.MapMode.READ_WRITE, writePosition, Math.max(REGION_BYTES, recordLength));
+            regionStart = writePosition;
+        }
+        int offset = (int) (writePosition - regionStart);
+        // Write the payload and checksum before the length, so a reader never sees a length without its record.
+        ByteBuffer body = region.duplicate();
+        // Through Buffer, so that the call also links on Java 8, where ByteBuffer does not override position(int).
+        ((Buffer) body).position(offset + HEADER_BYTES);
+        body.put(payload);
+        region.putInt(offset + 4, checksum(payload));
+        region.putInt(offset, payload.length);
+        writePosition += recordLength;
+        recordCount++;
+        if (++unsynced >= syncEvery) {
+            region.force();
+            unsynced = 0;
+        }
+    }
+
+    private void ensureOpen() {
+        if (closed) {
+            throw new IllegalStateException("OutcomeJournal has been closed");
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.spencerwi.either;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Maps a sequence of elements through a (typically I/O-bound) function on an
+ *  executor, with a fixed number of calls in flight at once, and hands back
+ *  the outcomes in the same order as the input:
+ *
+ *     try (Stream<Result<Page>> pages = ParallelMap.ordered(urls, 16, executor, http::fetch)) {
+ *         pages.forEach(this::index);
+ *     }
+ *
+ * Elements are only pulled from the source as the output is consumed: the
+ *  first pull starts up to `maxInFlight` calls, and each outcome taken from
+ *  the output makes room for one more. At most `maxInFlight` outcomes are
+ *  ever held waiting to be emitted in order, so memory stays constant however
+ *  long the input is, and a slow consumer slows the source down rather than
+ *  piling up results. A slow element holds back the outcomes behind it (but
+ *  not the calls for them) until it completes.
+ *
+ * Each element's outcome is a `Result`, as from {@link Result#attempt}; if the
+ *  executor rejects a call, that element's outcome is an `Err` wrapping an
+ *  {@link AttemptRejectedException}. An `Error` thrown by the function is
+ *  rethrown to the consumer. The output must be consumed from one thread at a
+ *  time; closing the output stream closes the source stream and cancels the
+ *  calls whose outcomes were not consumed (without interrupting any that are
+ *  already running).
+ */
+public final class ParallelMap {
+    private ParallelMap() { }
+
+    /**
+     * @param source the elements to map; it is consumed sequentially, and closed when the output is closed.
+     * @param maxInFlight the most calls to `mapper` that may be running, or waiting to be emitted, at once.
+     * @param executor runs the calls to `mapper`.
+     * @return a lazy, sequential stream of the outcomes of `mapper`, in the order of `source`.
+     */
+    public static <T, R> Stream<Result<R>> ordered(
+            Stream<T> source, int maxInFlight, Executor executor, ExceptionThrowingFunction<? super T, R> mapper
+    ) {
+        OrderedIterator<T, R> outcomes = new OrderedIterator<>(source.iterator(), maxInFlight, executor, mapper);
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(outcomes, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(outcomes::cancelPending)
+                .onClose(source::close);
+    }
+
+    /**
+     * @param source the elements to map.
+     * @param maxInFlight the most calls to `mapper` that may be running, or waiting to be emitted, at once.
+     * @param executor runs the calls to `mapper`.
+     * @return a lazy iterator over the outcomes of `mapper`, in the order of `source`.
+     */
+    public static <T, R> Iterator<Result<R>> ordered(
+            Iterator<T> source, int maxInFlight, Executor executor, ExceptionThrowingFunction<? super T, R> mapper
+    ) {
+        return new OrderedIterator<>(source, maxInFlight, executor, mapper);
+    }
+
+    private static final class OrderedIterator<T, R> implements Iterator<Result<R>> {
+        private final Iterator<T> source;
+        private final int maxInFlight;
+        private final Executor executor;
+        private final ExceptionThrowingFunction<? super T, R> mapper;
+        // The reorder buffer: calls in input order, whether or not they have completed.
+        private final ArrayDeque<CompletableFuture<Result<R>>> inFlight;
+
+        OrderedIterator(Iterator<T> source, int maxInFlight, Executor executor, ExceptionThrowingFunction<? super T, R> mapper) {
+            if (maxInFlight < 1) {
+                throw new IllegalArgumentException("maxInFlight must be at least 1");
+            }
+            this.source = source;
+            this.maxInFlight = maxInFlight;
+            this.executor = executor;
+            this.mapper = mapper;
+            this.inFlight = new ArrayDeque<>(maxInFlight);
+        }
+
+        @Override
+        public boolean hasNext() {
+            fill();
+            return !inFlight.isEmpty();
+        }
+
+        @Override
+        public Result<R> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            try {
+                return inFlight.pollFirst().join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof Error) {
+                    throw (Error) e.getCause();
+                }
+                throw e;
+            }
+        }
+
+        void cancelPending() {
+            CompletableFuture<Result<R>> pending;
+            while ((pending = inFlight.pollFirst()) != null) {
+                pending.cancel(false);
+            }
+        }
+
+        private void fill() {
+            while (inFlight.size() < maxInFlight && source.hasNext()) {
+                inFlight.addLast(submit(source.next()));
+            }
+        }
+
+        private CompletableFuture<Result<R>> submit(T element) {
+            try {
+                return CompletableFuture.supplyAsync(() -> Result.attempt(() -> mapper.apply(element)), executor);
+            } catch (RejectedExecutionException e) {
+                return CompletableFuture.completedFuture(Result.err(new AttemptRejectedException("Call rejected by executor: " + e.getMessage())));
+            }
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.spencerwi.either;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Runs attempts against resources borrowed from a {@link ResourcePool},
+ *  making sure each resource goes back to the pool no matter how the attempt
+ *  ends:
+ *
+ *     PooledAttempt<Connection> withConnection = PooledAttempt.from(pool).invalidatingOn(SQLException.class);
+ *     Result<User> user = withConnection.attempt(connection -> userDao.find(connection, id));
+ *
+ * If the attempt returns normally, the resource is released for reuse. If it
+ *  throws one of the "invalidating" exception types (by default, any
+ *  exception), the resource is invalidated instead, so that a broken
+ *  connection or a parser left in a bad state is never handed out again;
+ *  other exceptions release it. An `Error` always invalidates the resource
+ *  before propagating.
+ *
+ * A `PooledAttempt` is immutable and safe to share between threads.
+ * @param <T> the resource type.
+ */
+public final class PooledAttempt<T> {
+    private final ResourcePool<T> pool;
+    private final List<Class<? extends Exception>> invalidatingTypes;
+
+    private PooledAttempt(ResourcePool<T> pool, List<Class<? extends Exception>> invalidatingTypes) {
+        this.pool = pool;
+        this.invalidatingTypes = invalidatingTypes;
+    }
+
+    /**
+     * @return a `PooledAttempt` that borrows from `pool`, and invalidates the resource on any exception.
+     */
+    public static <T> PooledAttempt<T> from(ResourcePool<T> pool) {
+        return new PooledAttempt<>(pool, Collections.singletonList(Exception.class));
+    }
+
+    /**
+     * @param exceptionTypes the exception types (including their subtypes) that mean the resource must not be reused.
+     * @return a copy of this `PooledAttempt` that invalidates the resource only on the given exception types, and
+     *  releases it on any other.
+     */
+    @SafeVarargs
+    public final PooledAttempt<T> invalidatingOn(Class<? extends Exception>... exceptionTypes) {
+        return new PooledAttempt<>(pool, Collections.unmodifiableList(new ArrayList<>(Arrays.asList(exceptionTypes))));
+    }
+
+    /**
+     * Borrows a resource, runs `resultFunction` with it like {@link Result#attempt}, and gives the resource back.
+     * @return the outcome of `resultFunction`, or an `Err` wrapping the exception thrown by the pool if no resource
+     *  could be borrowed.
+     */
+    public <R> Result<R> attempt(ExceptionThrowingFunction<T, R> resultFunction) {
+        T resource;
+        try {
+            resource = pool.borrow();
+        } catch (Exception e) {
+            return Result.err(e);
+        }
+        Result<R> result;
+        try {
+            result = Result.attempt(() -> resultFunction.apply(resource));
+        } catch (Error e) {
+            // The resource's state is unknown after an Error.
+            pool.invalidate(resource);
+            throw e;
+        }
+        if (result.isErr() && invalidates(result.getException())) {
+            pool.invalidate(resource);
+        } else {
+            pool.release(resource);
+        }
+        return result;
+    }
+
+    private boolean invalidates(Exception e) {
+        for (Class<? extends Exception> type : invalidatingTypes) {
+            if (type.isInstance(e)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
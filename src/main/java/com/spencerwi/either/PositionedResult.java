@@ -0,0 +1,36 @@
+package com.spencerwi.either;
+
+/**
+ * A `Result` tagged with where its input came from: the (1-based) line
+ *  number and the byte offset of the start of the record in its file.
+ *  Produced by {@link RecordReader}.
+ * @param <R> the result type.
+ */
+public final class PositionedResult<R> {
+    private final long lineNumber;
+    private final long offset;
+    private final Result<R> result;
+
+    PositionedResult(long lineNumber, long offset, Result<R> result) {
+        this.lineNumber = lineNumber;
+        this.offset = offset;
+        this.result = result;
+    }
+
+    /**
+     * @return the 1-based line number of the record.
+     */
+    public long getLineNumber() { return lineNumber; }
+
+    /**
+     * @return the byte offset of the start of the record within its file.
+     */
+    public long getOffset() { return offset; }
+
+    public Result<R> getResult() { return result; }
+
+    @Override
+    public String toString() {
+        return "line " + lineNumber + " (offset " + offset + "): " + result.fold(Exception::toString, String::valueOf);
+    }
+}
@@ -0,0 +1,303 @@
+package com.spencerwi.either;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Parses a newline-delimited file record-by-record, wrapping each record's
+ *  outcome in a {@link PositionedResult} so that bad records can be reported
+ *  by line number and byte offset.
+ *
+ * The file is read through memory-mapped windows of a {@link FileChannel},
+ *  and the resulting stream splits on record boundaries, so calling
+ *  `.parallel()` on it spreads the parsing across cores while keeping line
+ *  numbers exact. Splitting only looks for the nearest line break, so it is
+ *  cheap; the line numbers each split part starts from are worked out when
+ *  it starts being traversed, by counting the line breaks in every part
+ *  before it. Each part counts its own line breaks before parsing them, so
+ *  this extra counting pass runs in parallel too. Both "\n" and "\r\n"
+ *  line endings are accepted.
+ *
+ * The returned stream holds the file open; close it (for example, with
+ *  try-with-resources) when you are done.
+ */
+public final class RecordReader {
+    static final long MIN_SPLIT_BYTES = 1 << 20;
+    private static final int WINDOW_BYTES = 1 << 26;
+
+    private RecordReader() {}
+
+    /**
+     * Parses each UTF-8 line of `file` with `parser`.
+     * @see #parse(Path, Charset, ExceptionThrowingFunction)
+     */
+    public static <R> Stream<PositionedResult<R>> parse(Path file, ExceptionThrowingFunction<String, R> parser) throws IOException {
+        return parse(file, StandardCharsets.UTF_8, parser);
+    }
+
+    /**
+     * Parses each line of `file`, decoded with `charset`, with `parser`.
+     * @param file the file to read.
+     * @param charset the encoding of the file; it must encode "\n" as the single byte 0x0A, as UTF-8 and ISO-8859-1 do.
+     * @param parser parses one line (without its line terminator).
+     * @return a sequential, ordered stream with one element per line, which can be made parallel.
+     * @throws IOException if the file cannot be opened.
+     */
+    public static <R> Stream<PositionedResult<R>> parse(Path file, Charset charset, ExceptionThrowingFunction<String, R> parser) throws IOException {
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+        try {
+            long fileSize = channel.size();
+            RecordSpliterator<R> spliterator = new RecordSpliterator<>(channel, fileSize, charset, parser, new Segment(channel, 0, fileSize), LineBase.FIRST_LINE, false);
+            return StreamSupport.stream(spliterator, false).onClose(() -> {
+                try {
+                    channel.close();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Owns the records that start in [position, end).
+     */
+    private static final class RecordSpliterator<R> implements Spliterator<PositionedResult<R>> {
+        private final FileChannel channel;
+        private final Charset charset;
+        private final ExceptionThrowingFunction<String, R> parser;
+        private final long fileSize;
+        private Segment segment;
+        private LineBase lineBase;
+        private boolean isSplit;
+        private long position;
+        private final long end;
+        // Resolved from lineBase when traversal starts; -1 until then.
+        private long lineNumber = -1;
+
+        private MappedByteBuffer window;
+        private long windowStart;
+
+        RecordSpliterator(FileChannel channel, long fileSize, Charset charset, ExceptionThrowingFunction<String, R> parser, Segment segment, LineBase lineBase, boolean isSplit) {
+            this.channel = channel;
+            this.charset = charset;
+            this.parser = parser;
+            this.fileSize = fileSize;
+            this.segment = segment;
+            this.lineBase = lineBase;
+            this.isSplit = isSplit;
+            this.position = segment.start;
+            this.end = segment.end;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super PositionedResult<R>> action) {
+            if (position >= end) {
+                return false;
+            }
+            if (lineNumber < 0) {
+                if (isSplit) {
+                    // Count this part's own line breaks first, so that the parts after it need not count them.
+                    segment.newlines();
+                }
+                lineNumber = lineBase.value();
+            }
+            long recordStart = position;
+            long newline = indexOfNewline(recordStart);
+            long recordEnd = (newline < 0) ? fileSize : newline;
+            position = (newline < 0) ? fileSize : newline + 1;
+
+            String record = decode(recordStart, recordEnd);
+            action.accept(new PositionedResult<>(lineNumber++, recordStart, Result.attempt(() -> parser.apply(record))));
+            return true;
+        }
+
+        @Override
+        public Spliterator<PositionedResult<R>> trySplit() {
+            // Once traversal has started, the suffix's line number would have to come from scanning the prefix.
+            if (lineNumber >= 0 || end - position < 2 * MIN_SPLIT_BYTES) {
+                return null;
+            }
+            long middle = position + (end - position) / 2;
+            long newline = indexOfNewline(middle);
+            if (newline < 0 || newline + 1 >= end) {
+                return null;
+            }
+            long splitAt = newline + 1;
+            Segment prefixSegment = new Segment(channel, position, splitAt);
+            Segment suffixSegment = new Segment(channel, splitAt, end);
+            segment.splitInto(prefixSegment, suffixSegment);
+            RecordSpliterator<R> prefix = new RecordSpliterator<>(channel, fileSize, charset, parser, prefixSegment, lineBase, true);
+            segment = suffixSegment;
+            lineBase = new LineBase(lineBase, prefixSegment);
+            isSplit = true;
+            position = splitAt;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return end - position;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | NONNULL | IMMUTABLE;
+        }
+
+        /**
+         * @return the absolute position of the first '\n' at or after `from`, or -1 if there is none.
+         */
+        private long indexOfNewline(long from) {
+            long scanFrom = from;
+            while (scanFrom < fileSize) {
+                MappedByteBuffer buffer = windowAt(scanFrom);
+                int limit = buffer.limit();
+                for (int i = (int) (scanFrom - windowStart); i < limit; i++) {
+                    if (buffer.get(i) == '\n') {
+                        return windowStart + i;
+                    }
+                }
+                scanFrom = windowStart + limit;
+            }
+            return -1;
+        }
+
+        private String decode(long from, long to) {
+            if (to > from && byteAt(to - 1) == '\r') {
+                to--;
+            }
+            byte[] bytes = new byte[(int) (to - from)];
+            long copyFrom = from;
+            int copied = 0;
+            while (copied < bytes.length) {
+                MappedByteBuffer buffer = windowAt(copyFrom);
+                int offset = (int) (copyFrom - windowStart);
+                int length = Math.min(bytes.length - copied, buffer.limit() - offset);
+                ByteBuffer source = buffer.duplicate();
+                // Through Buffer, so that the Java 8 signature of position(int) is linked against.
+                ((Buffer) source).position(offset);
+                source.get(bytes, copied, length);
+                copied += length;
+                copyFrom += length;
+            }
+            return new String(bytes, charset);
+        }
+
+        private byte byteAt(long absolutePosition) {
+            MappedByteBuffer buffer = windowAt(absolutePosition);
+            return buffer.get((int) (absolutePosition - windowStart));
+        }
+
+        /**
+         * @return a mapped window that contains `absolutePosition`, re-mapping if the current one does not.
+         */
+        private MappedByteBuffer windowAt(long absolutePosition) {
+            if (window == null || absolutePosition < windowStart || absolutePosition >= windowStart + window.limit()) {
+                try {
+                    long size = Math.min(WINDOW_BYTES, fileSize - absolutePosition);
+                    window = channel.map(FileChannel.MapMode.READ_ONLY, absolutePosition, size);
+                    windowStart = absolutePosition;
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+            return window;
+        }
+    }
+
+    /**
+     * A byte range of the file, whose number of line breaks is counted at most once, on first request. Once split,
+     *  its count is the sum of its two halves' counts, so that work done counting either half is reused.
+     */
+    private static final class Segment {
+        private final FileChannel channel;
+        final long start;
+        final long end;
+        private Segment prefix;
+        private Segment suffix;
+        private long newlines = -1;
+
+        Segment(FileChannel channel, long start, long end) {
+            this.channel = channel;
+            this.start = start;
+            this.end = end;
+        }
+
+        synchronized void splitInto(Segment prefix, Segment suffix) {
+            this.prefix = prefix;
+            this.suffix = suffix;
+        }
+
+        /**
+         * @return the number of '\n' bytes in [start, end), counting them if no one has yet.
+         */
+        synchronized long newlines() {
+            if (newlines < 0) {
+                newlines = (prefix != null) ? prefix.newlines() + suffix.newlines() : countNewlines();
+            }
+            return newlines;
+        }
+
+        private long countNewlines() {
+            long count = 0;
+            long scanFrom = start;
+            byte[] chunk = new byte[64 * 1024];
+            while (scanFrom < end) {
+                try {
+                    MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, scanFrom, Math.min(WINDOW_BYTES, end - scanFrom));
+                    while (buffer.hasRemaining()) {
+                        int length = Math.min(chunk.length, buffer.remaining());
+                        buffer.get(chunk, 0, length);
+                        for (int i = 0; i < length; i++) {
+                            if (chunk[i] == '\n') {
+                                count++;
+                            }
+                        }
+                    }
+                    scanFrom += buffer.limit();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+            return count;
+        }
+    }
+
+    /**
+     * The line number of the first record of a split part: that of the part before it, plus the line breaks in it.
+     */
+    private static final class LineBase {
+        static final LineBase FIRST_LINE = new LineBase(null, null);
+
+        private final LineBase previous;
+        private final Segment preceding;
+        private long value = -1;
+
+        LineBase(LineBase previous, Segment preceding) {
+            this.previous = previous;
+            this.preceding = preceding;
+        }
+
+        synchronized long value() {
+            if (value < 0) {
+                value = (previous == null) ? 1 : previous.value() + preceding.newlines();
+            }
+            return value;
+        }
+    }
+}
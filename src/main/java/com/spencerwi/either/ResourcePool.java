@@ -0,0 +1,28 @@
+package com.spencerwi.either;
+
+/**
+ * A pool of reusable resources (connections, parsers, buffers, ...) that
+ *  {@link PooledAttempt} borrows from. Implementations must be thread-safe.
+ *
+ * Every resource handed out by `borrow` is given back exactly once, either
+ *  through `release` if it is still fit for reuse, or through `invalidate`
+ *  if it must not be handed out again.
+ * @param <T> the resource type.
+ */
+public interface ResourcePool<T> {
+    /**
+     * @return an idle resource, or a new one if none is idle.
+     * @throws Exception if no resource could be provided.
+     */
+    T borrow() throws Exception;
+
+    /**
+     * Gives back a resource that may be reused.
+     */
+    void release(T resource);
+
+    /**
+     * Gives back a resource that must not be reused, so that the pool can dispose of it.
+     */
+    void invalidate(T resource);
+}
@@ -1,6 +1,7 @@
 package com.spencerwi.either;
 
 import java.util.NoSuchElementException;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Function;
 import java.util.function.Consumer;
@@ -142,8 +143,8 @@ public abstract class Result<R> {
 	 */
 	public abstract void run(Consumer<Exception> errorHandler, Consumer<R> okHandler);
 
-    public static class Err<R> extends Result<R> {
-        private Exception ex;
+    public static final class Err<R> extends Result<R> {
+        private final Exception ex;
         private Err(Exception e) {
             this.ex = e;
         }
@@ -184,8 +185,9 @@ public abstract class Result<R> {
 			errorHandler.accept(this.ex);
 		}
 
+        // Mix in the side, so that Err(x) and Ok(x) land in different hash buckets.
         @Override
-        public int hashCode(){ return this.ex.hashCode(); }
+        public int hashCode(){ return 31 * Objects.hashCode(this.ex) + 1; }
 
 		/**
 		 * An `Err` object is equal to another object if that other object is
@@ -196,15 +198,15 @@ public abstract class Result<R> {
         public boolean equals(Object other){
             if (other instanceof Err<?>){
                 final Err<?> otherAsErr = (Err<?>)other;
-                return this.ex.equals(otherAsErr.ex);
+                return Objects.equals(this.ex, otherAsErr.ex);
             } else {
                 return false;
             }
         }
 
     }
-    public static class Ok<R> extends Result<R> {
-        private R resultValue;
+    public static final class Ok<R> extends Result<R> {
+        private final R resultValue;
         private Ok(R value) {
             this.resultValue = value;
         }
@@ -251,7 +253,7 @@ public abstract class Result<R> {
 		}
 
         @Override
-        public int hashCode(){ return this.resultValue.hashCode(); }
+        public int hashCode(){ return 31 * Objects.hashCode(this.resultValue) + 2; }
 		/**
 		 * An `Ok` object is equal to another object if that other object is
 		 *  another `Ok` instance containing a value that is equal to this 
@@ -261,7 +263,7 @@ public abstract class Result<R> {
         public boolean equals(Object other){
             if (other instanceof Ok<?>){
                 final Ok<?> otherAsOk = (Ok<?>)other;
-                return this.resultValue.equals(otherAsOk.resultValue);
+                return Objects.equals(this.resultValue, otherAsOk.resultValue);
             } else {
                 return false;
             }
@@ -0,0 +1,290 @@
+package com.spencerwi.either;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * An ordered sequence of values, some of which may live in temporary files
+ *  rather than on the heap. Produced by the spilling collectors in
+ *  {@link EitherCollectors}.
+ *
+ * Spilled values are decoded lazily, each time the sequence is iterated, so
+ *  a sequence can be far larger than the heap. Closing the sequence deletes
+ *  its temporary files (and closes any iteration still in progress); it
+ *  cannot be iterated afterwards.
+ * @param <T> the element type.
+ */
+public final class SpilledSequence<T> implements Iterable<T>, AutoCloseable {
+    private final ElementCodec<T> codec;
+    private final List<SpillFile> files;
+    private final List<T> tail;
+    private final long size;
+    private final Set<SpillIterator> openIterators = new HashSet<>();
+    private boolean closed = false;
+
+    private SpilledSequence(ElementCodec<T> codec, List<SpillFile> files, List<T> tail) {
+        this.codec = codec;
+        this.files = files;
+        this.tail = tail;
+        long spilledCount = 0;
+        for (SpillFile file : files) {
+            spilledCount += file.count;
+        }
+        this.size = spilledCount + tail.size();
+    }
+
+    public long size() { return size; }
+    public boolean isEmpty() { return size == 0; }
+
+    /**
+     * @return true if any of this sequence's values were written to disk.
+     */
+    public boolean isSpilled() { return !files.isEmpty(); }
+
+    /**
+     * @return an iterator over the values in order; it throws {@link UncheckedIOException} if a spill file cannot be read.
+     */
+    @Override
+    public Iterator<T> iterator() {
+        synchronized (openIterators) {
+            if (closed) {
+                throw new IllegalStateException("SpilledSequence has been closed");
+            }
+            SpillIterator iterator = new SpillIterator();
+            openIterators.add(iterator);
+            return iterator;
+        }
+    }
+
+    /**
+     * @return a sequential stream of the values in order; closing the stream releases the file it is reading from.
+     */
+    public Stream<T> stream() {
+        SpillIterator iterator = (SpillIterator) iterator();
+        Spliterator<T> spliterator = Spliterators.spliterator(iterator, size, Spliterator.ORDERED);
+        return StreamSupport.stream(spliterator, false).onClose(iterator::release);
+    }
+
+    /**
+     * Deletes this sequence's temporary files.
+     * @throws UncheckedIOException if a file cannot be deleted; the rest are still deleted.
+     */
+    @Override
+    public void close() {
+        List<SpillIterator> toRelease;
+        synchronized (openIterators) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            toRelease = new ArrayList<>(openIterators);
+        }
+        for (SpillIterator iterator : toRelease) {
+            iterator.release();
+        }
+        deleteAll(files);
+    }
+
+    private static void deleteAll(List<SpillFile> files) {
+        IOException failure = null;
+        for (SpillFile file : files) {
+            try {
+                Files.deleteIfExists(file.path);
+            } catch (IOException e) {
+                if (failure == null) {
+                    failure = e;
+                } else {
+                    failure.addSuppressed(e);
+                }
+            }
+        }
+        if (failure != null) {
+            throw new UncheckedIOException(failure);
+        }
+    }
+
+    private static final class SpillFile {
+        final Path path;
+        long count = 0;
+
+        SpillFile(Path path) {
+            this.path = path;
+        }
+    }
+
+    private final class SpillIterator implements Iterator<T> {
+        private int fileIndex = 0;
+        private long remainingInFile = 0;
+        private DataInputStream in;
+        private Iterator<T> tailIterator;
+
+        @Override
+        public boolean hasNext() {
+            while (remainingInFile == 0 && fileIndex < files.size()) {
+                openNextFile();
+            }
+            if (remainingInFile > 0) {
+                return true;
+            }
+            release();
+            if (tailIterator == null) {
+                tailIterator = tail.iterator();
+            }
+            return tailIterator.hasNext();
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            if (remainingInFile > 0) {
+                try {
+                    T value = codec.read(in);
+                    remainingInFile--;
+                    return value;
+                } catch (IOException e) {
+                    release();
+                    throw new UncheckedIOException(e);
+                }
+            }
+            return tailIterator.next();
+        }
+
+        private void openNextFile() {
+            release();
+            SpillFile file = files.get(fileIndex++);
+            try {
+                in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file.path)));
+                remainingInFile = file.count;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        void release() {
+            synchronized (openIterators) {
+                openIterators.remove(this);
+            }
+            if (in != null) {
+                try {
+                    in.close();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                } finally {
+                    in = null;
+                    remainingInFile = 0;
+                }
+            }
+        }
+    }
+
+    /**
+     * The write side of a {@link SpilledSequence}: buffers appended values in memory until asked to spill them
+     *  to a temporary file.
+     */
+    static final class Spool<T> {
+        private final ElementCodec<T> codec;
+        private final Path directory;
+        private final List<SpillFile> files = new ArrayList<>();
+        private List<T> memory = new ArrayList<>();
+        private DataOutputStream out;
+
+        Spool(ElementCodec<T> codec, Path directory) {
+            this.codec = codec;
+            this.directory = directory;
+        }
+
+        void add(T value) {
+            memory.add(value);
+        }
+
+        int inMemory() {
+            return memory.size();
+        }
+
+        /**
+         * Writes every buffered value to the end of the current spill file, starting a new one if needed.
+         */
+        void spill() {
+            if (memory.isEmpty()) {
+                return;
+            }
+            try {
+                if (out == null) {
+                    Path path = (directory == null)
+                            ? Files.createTempFile("either-spill", ".bin")
+                            : Files.createTempFile(directory, "either-spill", ".bin");
+                    files.add(new SpillFile(path));
+                    out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path)));
+                }
+                for (T value : memory) {
+                    codec.write(value, out);
+                }
+                files.get(files.size() - 1).count += memory.size();
+                memory.clear();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        /**
+         * Appends `other`'s values after this spool's, taking over its files.
+         */
+        void append(Spool<T> other) {
+            if (other.files.isEmpty()) {
+                memory.addAll(other.memory);
+                return;
+            }
+            // Our buffered values come before other's files, so they have to go to disk first.
+            spill();
+            closeWriter();
+            files.addAll(other.files);
+            out = other.out;
+            memory = other.memory;
+        }
+
+        SpilledSequence<T> finish() {
+            closeWriter();
+            return new SpilledSequence<>(codec, Collections.unmodifiableList(files), Collections.unmodifiableList(memory));
+        }
+
+        /**
+         * Deletes this spool's files, for the side of a result that is thrown away.
+         */
+        void discard() {
+            closeWriter();
+            memory = Collections.emptyList();
+            deleteAll(files);
+        }
+
+        private void closeWriter() {
+            if (out != null) {
+                try {
+                    out.close();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                } finally {
+                    out = null;
+                }
+            }
+        }
+    }
+}
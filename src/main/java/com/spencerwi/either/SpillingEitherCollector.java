@@ -0,0 +1,113 @@
+package com.spencerwi.either;
+
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collector;
+
+/**
+ * The collector behind {@link EitherCollectors#toLeftBiasedSpilling} and {@link EitherCollectors#toRightBiasedSpilling}.
+ */
+class SpillingEitherCollector<L,R> implements Collector<Either<L,R>, SpillingEitherCollector.SpillingAccumulator<L,R>, Either<SpilledSequence<L>, SpilledSequence<R>>> {
+    private final boolean leftBiased;
+    private final int maxInMemory;
+    private final ElementCodec<L> leftCodec;
+    private final ElementCodec<R> rightCodec;
+    private final Path directory;
+
+    SpillingEitherCollector(boolean leftBiased, int maxInMemory, ElementCodec<L> leftCodec, ElementCodec<R> rightCodec, Path directory) {
+        if (maxInMemory < 0) {
+            throw new IllegalArgumentException("maxInMemory must not be negative");
+        }
+        this.leftBiased = leftBiased;
+        this.maxInMemory = maxInMemory;
+        this.leftCodec = leftCodec;
+        this.rightCodec = rightCodec;
+        this.directory = directory;
+    }
+
+    @Override
+    public Supplier<SpillingAccumulator<L, R>> supplier() {
+        return () -> new SpillingAccumulator<>(this);
+    }
+
+    @Override
+    public BiConsumer<SpillingAccumulator<L, R>, Either<L, R>> accumulator() {
+        return SpillingAccumulator::add;
+    }
+
+    @Override
+    public BinaryOperator<SpillingAccumulator<L, R>> combiner() {
+        return SpillingAccumulator::append;
+    }
+
+    @Override
+    public Function<SpillingAccumulator<L, R>, Either<SpilledSequence<L>, SpilledSequence<R>>> finisher() {
+        return SpillingAccumulator::finisher;
+    }
+
+    @Override
+    public Set<Characteristics> characteristics() {
+        return Collections.emptySet();
+    }
+
+    static class SpillingAccumulator<L,R> {
+        private final SpilledSequence.Spool<L> lefts;
+        private final SpilledSequence.Spool<R> rights;
+        private final boolean leftBiased;
+        private final int maxInMemory;
+        private long leftCount = 0;
+        private long rightCount = 0;
+
+        SpillingAccumulator(SpillingEitherCollector<L,R> collector) {
+            this.leftBiased = collector.leftBiased;
+            this.maxInMemory = collector.maxInMemory;
+            this.lefts = new SpilledSequence.Spool<>(collector.leftCodec, collector.directory);
+            this.rights = new SpilledSequence.Spool<>(collector.rightCodec, collector.directory);
+        }
+
+        void add(Either<L,R> e) {
+            if (e.isLeft()) {
+                lefts.add(e.getLeft());
+                leftCount++;
+            } else {
+                rights.add(e.getRight());
+                rightCount++;
+            }
+            spillIfOverThreshold();
+        }
+
+        SpillingAccumulator<L,R> append(SpillingAccumulator<L,R> accumulator2) {
+            lefts.append(accumulator2.lefts);
+            rights.append(accumulator2.rights);
+            leftCount += accumulator2.leftCount;
+            rightCount += accumulator2.rightCount;
+            spillIfOverThreshold();
+            return this;
+        }
+
+        private void spillIfOverThreshold() {
+            if (lefts.inMemory() + rights.inMemory() > maxInMemory) {
+                lefts.spill();
+                rights.spill();
+            }
+        }
+
+        Either<SpilledSequence<L>, SpilledSequence<R>> finisher() {
+            boolean left = leftBiased
+                    ? leftCount > 0 || rightCount == 0
+                    : !(rightCount > 0 || leftCount == 0);
+            if (left) {
+                rights.discard();
+                return Either.left(lefts.finish());
+            } else {
+                lefts.discard();
+                return Either.right(rights.finish());
+            }
+        }
+    }
+}
@@ -0,0 +1,230 @@
+package com.spencerwi.either;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.LongSupplier;
+
+/**
+ * Caches the `Ok` results of an {@link ExceptionThrowingFunction}, refreshing
+ *  them in the background before they expire, and serving the last good
+ *  value for a while if the backend fails.
+ *
+ * An entry's life has three stages, measured from when it was loaded:
+ *  - before `refreshAfter`, it is served as-is;
+ *  - from `refreshAfter` until `expireAfter`, it is still served as-is, but
+ *    each lookup that finds no reload in progress starts one on the refresh
+ *    executor (refresh-ahead);
+ *  - from `expireAfter` until `maxStaleness` past it, a lookup reloads it
+ *    synchronously, and serves the old value, marked stale, only if that
+ *    reload fails. Once a refresh has failed, or while a reload is already
+ *    in progress, lookups serve the stale value straight away and leave the
+ *    reloading to the background, so a failing or hanging backend costs
+ *    each caller nothing while there is a value to fall back on;
+ *  - after that, a lookup reloads it synchronously, and returns the failure
+ *    if the reload fails.
+ * A failed reload never replaces a good value, and failed loads are not
+ *  cached. Concurrent loads of the same key share a single call to the
+ *  backend.
+ *
+ * {@link #get} returns just the value; {@link #getEntry} also says how old
+ *  the value is, whether it is stale, and why the last refresh failed.
+ * @param <K> the key type; it must have a sensible equals/hashCode.
+ * @param <V> the value type.
+ */
+public final class StaleIfErrorCache<K, V> {
+    private final ExceptionThrowingFunction<K, V> loader;
+    private final Executor refreshExecutor;
+    private final long refreshAfterNanos;
+    private final long expireAfterNanos;
+    private final long maxStalenessNanos;
+    private final LongSupplier nanoClock;
+    private final ConcurrentMap<K, Entry> entries = new ConcurrentHashMap<>();
+    private final ConcurrentMap<K, CompletableFuture<Result<Entry>>> loading = new ConcurrentHashMap<>();
+
+    StaleIfErrorCache(ExceptionThrowingFunction<K, V> loader, Executor refreshExecutor, Duration refreshAfter, Duration expireAfter, Duration maxStaleness, LongSupplier nanoClock) {
+        if (refreshAfter.isNegative() || expireAfter.compareTo(refreshAfter) < 0) {
+            throw new IllegalArgumentException("durations must satisfy 0 <= refreshAfter <= expireAfter");
+        }
+        if (maxStaleness.isNegative()) {
+            throw new IllegalArgumentException("maxStaleness must not be negative");
+        }
+        this.loader = loader;
+        this.refreshExecutor = refreshExecutor;
+        this.refreshAfterNanos = refreshAfter.toNanos();
+        this.expireAfterNanos = expireAfter.toNanos();
+        this.maxStalenessNanos = maxStaleness.toNanos();
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * @param loader loads the value for a key from the backend.
+     * @param refreshExecutor runs background refreshes.
+     * @param refreshAfter how old an entry may get before a lookup refreshes it in the background.
+     * @param expireAfter how old an entry may get before a lookup has to reload it.
+     * @param maxStaleness how long past `expireAfter` an entry may still be served while reloading it fails.
+     */
+    public static <K, V> StaleIfErrorCache<K, V> of(
+            ExceptionThrowingFunction<K, V> loader, Executor refreshExecutor,
+            Duration refreshAfter, Duration expireAfter, Duration maxStaleness
+    ) {
+        return new StaleIfErrorCache<>(loader, refreshExecutor, refreshAfter, expireAfter, maxStaleness, System::nanoTime);
+    }
+
+    /**
+     * @return the cached or freshly-loaded value for `key`, or an `Err` if it could not be loaded and there is no
+     *  value recent enough to fall back on.
+     */
+    public Result<V> get(K key) {
+        return getEntry(key).map(Cached::getValue);
+    }
+
+    /**
+     * Like {@link #get}, but also reports how old the value is.
+     */
+    public Result<Cached<V>> getEntry(K key) {
+        long now = nanoClock.getAsLong();
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return load(key).map(loaded -> loaded.toCached(nanoClock.getAsLong()));
+        }
+        long age = now - entry.loadedAtNanos;
+        if (age < refreshAfterNanos) {
+            return Result.ok(entry.toCached(now));
+        }
+        if (age < expireAfterNanos) {
+            refreshInBackground(key);
+            return Result.ok(entry.toCached(now));
+        }
+        if (age - expireAfterNanos <= maxStalenessNanos) {
+            if (entry.lastFailure != null || loading.containsKey(key)) {
+                // The backend is failing or already being asked; don't make this caller wait on it too.
+                refreshInBackground(key);
+                return Result.ok(entry.toCached(now));
+            }
+            Result<Entry> reloaded = load(key);
+            if (reloaded.isOk()) {
+                return Result.ok(reloaded.getResult().toCached(nanoClock.getAsLong()));
+            }
+            return Result.ok(entries.getOrDefault(key, entry).toCached(nanoClock.getAsLong()));
+        }
+        // Too old to fall back on, so there is nothing to serve but a fresh value.
+        return load(key).map(loaded -> loaded.toCached(nanoClock.getAsLong()));
+    }
+
+    /**
+     * Drops the cached value for `key`, if any.
+     */
+    public void invalidate(K key) {
+        entries.remove(key);
+    }
+
+    /**
+     * @return the number of cached entries, including stale ones.
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    private void refreshInBackground(K key) {
+        if (loading.containsKey(key)) {
+            return;
+        }
+        try {
+            refreshExecutor.execute(() -> load(key));
+        } catch (RejectedExecutionException e) {
+            // Skip the refresh; the next lookup will try again.
+        }
+    }
+
+    /**
+     * Loads `key` and stores it if it loaded; otherwise, records the failure against the existing entry.
+     * @return the new entry, or the failure.
+     */
+    private Result<Entry> load(K key) {
+        CompletableFuture<Result<Entry>> mine = new CompletableFuture<>();
+        CompletableFuture<Result<Entry>> existing = loading.putIfAbsent(key, mine);
+        if (existing != null) {
+            return existing.join();
+        }
+        try {
+            Result<V> loaded = Result.attempt(() -> loader.apply(key));
+            Result<Entry> outcome;
+            if (loaded.isOk()) {
+                Entry entry = new Entry(loaded.getResult(), nanoClock.getAsLong(), null);
+                entries.put(key, entry);
+                outcome = Result.ok(entry);
+            } else {
+                entries.computeIfPresent(key, (k, previous) -> previous.withFailure(loaded.getException()));
+                outcome = Result.err(loaded.getException());
+            }
+            mine.complete(outcome);
+            return outcome;
+        } catch (RuntimeException | Error e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            loading.remove(key, mine);
+        }
+    }
+
+    private final class Entry {
+        final V value;
+        final long loadedAtNanos;
+        final Exception lastFailure;
+
+        Entry(V value, long loadedAtNanos, Exception lastFailure) {
+            this.value = value;
+            this.loadedAtNanos = loadedAtNanos;
+            this.lastFailure = lastFailure;
+        }
+
+        Entry withFailure(Exception failure) {
+            return new Entry(value, loadedAtNanos, failure);
+        }
+
+        Cached<V> toCached(long now) {
+            long age = Math.max(0, now - loadedAtNanos);
+            return new Cached<>(value, Duration.ofNanos(age), age >= expireAfterNanos, lastFailure);
+        }
+    }
+
+    /**
+     * A cached value, with how old it is and whether it is being served past its expiry.
+     */
+    public static final class Cached<V> {
+        private final V value;
+        private final Duration age;
+        private final boolean stale;
+        private final Exception lastFailure;
+
+        private Cached(V value, Duration age, boolean stale, Exception lastFailure) {
+            this.value = value;
+            this.age = age;
+            this.stale = stale;
+            this.lastFailure = lastFailure;
+        }
+
+        public V getValue() { return value; }
+
+        /**
+         * @return how long ago the value was loaded.
+         */
+        public Duration getAge() { return age; }
+
+        /**
+         * @return true if the value is past its expiry, and is only being served because reloading it failed (or a
+         *  reload is still in progress after an earlier failure or by another caller).
+         */
+        public boolean isStale() { return stale; }
+
+        /**
+         * @return the failure of the most recent refresh since the value was loaded, if one failed.
+         */
+        public Optional<Exception> getLastFailure() { return Optional.ofNullable(lastFailure); }
+    }
+}
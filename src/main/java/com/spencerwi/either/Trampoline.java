@@ -0,0 +1,65 @@
+package com.spencerwi.either;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * A computation that is described first and run later by a loop, so that
+ *  arbitrarily long (or deeply recursive) chains of `flatMap` calls run in
+ *  constant stack space. Pending continuations are kept on the heap instead
+ *  of the call stack. This is the engine behind {@link DeferredResult} and
+ *  {@link DeferredEither}.
+ * @param <T> the type of value the computation produces.
+ */
+abstract class Trampoline<T> {
+
+    static <T> Trampoline<T> done(T value) { return new Done<>(value); }
+
+    static <T> Trampoline<T> suspend(Supplier<Trampoline<T>> next) { return new Suspend<>(next); }
+
+    <U> Trampoline<U> flatMap(Function<T, Trampoline<U>> continuation) {
+        return new FlatMap<>(this, continuation);
+    }
+
+    @SuppressWarnings("unchecked")
+    T run() {
+        Deque<Function<Object, Trampoline<?>>> continuations = new ArrayDeque<>();
+        Trampoline<?> current = this;
+        while (true) {
+            if (current instanceof FlatMap<?,?>) {
+                FlatMap<Object, ?> flatMap = (FlatMap<Object, ?>) current;
+                continuations.push((Function<Object, Trampoline<?>>) (Function<?, ?>) flatMap.continuation);
+                current = flatMap.source;
+            } else if (current instanceof Suspend<?>) {
+                current = ((Suspend<?>) current).next.get();
+            } else {
+                Object value = ((Done<?>) current).value;
+                if (continuations.isEmpty()) {
+                    return (T) value;
+                }
+                current = continuations.pop().apply(value);
+            }
+        }
+    }
+
+    private static final class Done<T> extends Trampoline<T> {
+        private final T value;
+        private Done(T value) { this.value = value; }
+    }
+
+    private static final class Suspend<T> extends Trampoline<T> {
+        private final Supplier<Trampoline<T>> next;
+        private Suspend(Supplier<Trampoline<T>> next) { this.next = next; }
+    }
+
+    private static final class FlatMap<S, T> extends Trampoline<T> {
+        private final Trampoline<S> source;
+        private final Function<S, Trampoline<T>> continuation;
+        private FlatMap(Trampoline<S> source, Function<S, Trampoline<T>> continuation) {
+            this.source = source;
+            this.continuation = continuation;
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.spencerwi.either;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+/**
+ * Runs a set of independent validation rules over one input and reports
+ *  *every* violation, instead of stopping at the first one the way a chain
+ *  of {@link Either#flatMapRight} calls does.
+ *
+ * Each rule returns either a violation (on the left) or a value (on the
+ *  right). When every rule passes, the result is a Right containing each
+ *  rule's value, in rule order; otherwise it is a Left containing every
+ *  violation, in rule order. When rules are expensive, they can be run in
+ *  parallel on an {@link Executor}.
+ * @param <T> the type of input being validated.
+ * @param <V> the violation type.
+ * @param <R> the type of value a passing rule returns.
+ */
+public final class Validation<T, V, R> {
+    private final List<Function<? super T, Either<V, R>>> rules;
+
+    private Validation(List<Function<? super T, Either<V, R>>> rules) {
+        this.rules = rules;
+    }
+
+    /**
+     * @param rules the rules to check, which must not depend on each other.
+     * @return a `Validation` that checks every one of `rules`.
+     */
+    public static <T, V, R> Validation<T, V, R> of(List<? extends Function<? super T, Either<V, R>>> rules) {
+        return new Validation<>(Collections.unmodifiableList(new ArrayList<>(rules)));
+    }
+
+    /**
+     * A varargs convenience for {@link #of(List)}.
+     */
+    @SafeVarargs
+    public static <T, V, R> Validation<T, V, R> of(Function<? super T, Either<V, R>>... rules) {
+        return Validation.<T, V, R>of(Arrays.asList(rules));
+    }
+
+    /**
+     * Checks every rule against `input`, one after another on the calling thread.
+     * @return a Left containing every violation if any rule failed; otherwise, a Right containing every rule's value.
+     */
+    public Either<List<V>, List<R>> validate(T input) {
+        List<Either<V, R>> outcomes = new ArrayList<>(rules.size());
+        for (Function<? super T, Either<V, R>> rule : rules) {
+            outcomes.add(rule.apply(input));
+        }
+        return combine(outcomes);
+    }
+
+    /**
+     * Checks every rule against `input` concurrently on `executor`, waiting for all of them to finish.
+     * If a rule throws, that exception is rethrown once every rule has finished.
+     * @return a Left containing every violation if any rule failed; otherwise, a Right containing every rule's value.
+     */
+    public Either<List<V>, List<R>> validate(T input, Executor executor) {
+        List<CompletableFuture<Either<V, R>>> pending = new ArrayList<>(rules.size());
+        for (Function<? super T, Either<V, R>> rule : rules) {
+            pending.add(CompletableFuture.supplyAsync(() -> rule.apply(input), executor));
+        }
+        try {
+            CompletableFuture.allOf(pending.toArray(new CompletableFuture<?>[0])).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            } else if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw e;
+        }
+        List<Either<V, R>> outcomes = new ArrayList<>(pending.size());
+        for (CompletableFuture<Either<V, R>> outcome : pending) {
+            outcomes.add(outcome.join());
+        }
+        return combine(outcomes);
+    }
+
+    private static <V, R> Either<List<V>, List<R>> combine(List<Either<V, R>> outcomes) {
+        int violationCount = 0;
+        for (Either<V, R> outcome : outcomes) {
+            if (outcome.isLeft()) {
+                violationCount++;
+            }
+        }
+        if (violationCount == 0) {
+            List<R> values = new ArrayList<>(outcomes.size());
+            for (Either<V, R> outcome : outcomes) {
+                values.add(outcome.getRight());
+            }
+            return Either.right(values);
+        }
+        List<V> violations = new ArrayList<>(violationCount);
+        for (Either<V, R> outcome : outcomes) {
+            if (outcome.isLeft()) {
+                violations.add(outcome.getLeft());
+            }
+        }
+        return Either.left(violations);
+    }
+}
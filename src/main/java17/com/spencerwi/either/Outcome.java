@@ -0,0 +1,323 @@
+package com.spencerwi.either;
+
+// JDK 17+ variant of src/main/java/com/spencerwi/either/Outcome.java, packaged under
+//  META-INF/versions/17 of the multi-release jar. Keep the two in sync (MultiReleaseSourcesTest checks).
+
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * A sibling of {@link Result} whose error channel is an arbitrary type `E`
+ *  instead of being fixed to `Exception`. This lets "expected" failures (such
+ *  as validation rejections) be modeled as cheap values like enums, error
+ *  codes, or small value classes, without paying for exception construction
+ *  and stack-trace capture on every failure.
+ *
+ * An `Outcome` converts to and from {@link Either} (errors on the left, results
+ *  on the right) and {@link Result} (when the error type is an exception)
+ *  without copying the wrapped value.
+ *
+ * Two Outcome instances are equal if they are both the same "side" and both
+ *  contain equal values.
+ * @param <E> the error type.
+ * @param <R> the result type.
+ */
+public abstract sealed class Outcome<E, R> {
+
+    /**
+     * Factory method for directly creating an `Ok` from a value.
+     * @param result the result value to wrap in an `Ok`
+     */
+    public static <E, R> Outcome<E, R> ok(R result){ return new Ok<>(result); }
+
+    /**
+     * Factory method for directly creating an `Err` from an error value.
+     * @param error the error value to wrap in an `Err`
+     */
+    public static <E, R> Outcome<E, R> err(E error){ return new Err<>(error); }
+
+    /**
+     * Like {@link Result#attempt}, but any exception thrown by `resultSupplier`
+     *  is translated into an error value by `mapException`.
+     * @param resultSupplier the possibly-failing operation to run.
+     * @param mapException translates a thrown exception into an error value.
+     * @return an `Err` containing the translated exception if one was thrown; otherwise, an `Ok`.
+     */
+    public static <E, R> Outcome<E, R> attempt(ExceptionThrowingSupplier<R> resultSupplier, Function<Exception, E> mapException){
+        try {
+            return Outcome.ok(resultSupplier.get());
+        } catch (Exception e){
+            return Outcome.err(mapException.apply(e));
+        }
+    }
+
+    /**
+     * Lifts an exception-throwing function into one that returns an `Outcome`,
+     *  translating any thrown exception into an error value with `mapException`.
+     * @param function the possibly-failing function to lift.
+     * @param mapException translates a thrown exception into an error value.
+     * @return a function that never throws, returning an `Outcome` instead.
+     */
+    public static <T, E, R> Function<T, Outcome<E, R>> lift(ExceptionThrowingFunction<T, R> function, Function<Exception, E> mapException){
+        return input -> Outcome.attempt(() -> function.apply(input), mapException);
+    }
+
+    /**
+     * Converts an `Either` into an `Outcome`, treating the left side as the
+     *  error and the right side as the result.
+     */
+    public static <E, R> Outcome<E, R> fromEither(Either<E, R> either){
+        return either.fold(Outcome::err, Outcome::ok);
+    }
+
+    /**
+     * Converts a `Result` into an `Outcome` whose error type is `Exception`.
+     */
+    public static <R> Outcome<Exception, R> fromResult(Result<R> result){
+        return result.fold(Outcome::err, Outcome::ok);
+    }
+
+    /**
+     * @return the wrapped error if this is an `Err`; otherwise, throws a NoSuchElementException.
+     * @throws NoSuchElementException if this is an `Ok`
+     */
+    public abstract E getError();
+
+    /**
+     * @return the wrapped value if this is an `Ok`; otherwise, throws a NoSuchElementException.
+     * @throws NoSuchElementException if this is an `Err`
+     */
+    public abstract R getResult();
+
+    public abstract boolean isErr();
+    public abstract boolean isOk();
+
+    /**
+     * Transforms the error or the value (whichever is present) to a common
+     *  type `T`.
+     * @param transformError a method that takes the wrapped error and returns a value of type `T`
+     * @param transformValue a method that takes the wrapped value and returns a value of type `T`
+     * @return the return value of `transformValue` if this is an `Ok`, otherwise, the return value of `transformError`
+     */
+    public abstract <T> T fold(Function<E, T> transformError, Function<R, T> transformValue);
+
+    /**
+     * Applies `transformValue` to the wrapped value if this is an `Ok`;
+     *  otherwise returns the same error with a friendly type signature.
+     */
+    public abstract <T> Outcome<E, T> map(Function<R, T> transformValue);
+
+    /**
+     * Applies `transformError` to the wrapped error if this is an `Err`;
+     *  otherwise returns the same value with a friendly type signature.
+     */
+    public abstract <E2> Outcome<E2, R> mapErr(Function<E, E2> transformError);
+
+    /**
+     * Applies an `Outcome`-returning function to the wrapped value and returns
+     *  that if this is an `Ok`; otherwise returns the same `Err`.
+     */
+    public abstract <T> Outcome<E, T> flatMap(Function<R, Outcome<E, T>> transformValue);
+
+    /**
+     * Applies an `Outcome`-returning function to the wrapped error and returns
+     *  that if this is an `Err`, allowing recovery from (or re-classification
+     *  of) failures; otherwise returns the same `Ok`.
+     */
+    public abstract <E2> Outcome<E2, R> recover(Function<E, Outcome<E2, R>> transformError);
+
+    /**
+     * Runs the `errorHandler` function with the wrapped error if this is an
+     * `Err`, or else runs the `okHandler` function with the wrapped value if
+     * this is an `Ok`.
+     */
+    public abstract void run(Consumer<E> errorHandler, Consumer<R> okHandler);
+
+    /**
+     * @return the wrapped value if this is an `Ok`, otherwise, the supplied other value.
+     */
+    public R getOrElse(R other) {
+        return fold(error -> other, Function.identity());
+    }
+
+    /**
+     * @return the wrapped value if this is an `Ok`, otherwise, the value supplied by `otherSupplier`.
+     */
+    public R getOrElse(Supplier<R> otherSupplier) {
+        return fold(error -> otherSupplier.get(), Function.identity());
+    }
+
+    /**
+     * Returns the wrapped value if this is an `Ok`; otherwise throws the
+     *  exception produced by applying `errorToException` to the wrapped error.
+     * @throws X if this is an `Err`.
+     */
+    public abstract <X extends Throwable> R getOrElseThrow(Function<E, X> errorToException) throws X;
+
+    /**
+     * Runs the acceptsOkValue function if this is an `Ok`, passing in the
+     *  wrapped value; otherwise, does nothing.
+     */
+    public void ifOk(Consumer<R> acceptsOkValue) {
+        run(error -> {}, acceptsOkValue);
+    }
+
+    /**
+     * @return the result as an Optional, discarding any error.
+     */
+    public Optional<R> toOptional() {
+        return fold(error -> Optional.empty(), Optional::ofNullable);
+    }
+
+    /**
+     * @return an `Either` with the error on the left and the result on the right.
+     */
+    public Either<E, R> toEither() {
+        return fold(Either::left, Either::right);
+    }
+
+    /**
+     * @param errorToException translates the wrapped error into an exception if this is an `Err`.
+     * @return a `Result` wrapping the same value, or the translated error.
+     */
+    public Result<R> toResult(Function<E, ? extends Exception> errorToException) {
+        return fold(error -> Result.err(errorToException.apply(error)), Result::ok);
+    }
+
+    public static final class Err<E, R> extends Outcome<E, R> {
+        private final E error;
+        private Err(E error) {
+            this.error = error;
+        }
+
+        @Override
+        public E getError() { return this.error; }
+        @Override
+        public R getResult() { throw new NoSuchElementException("Tried to getResult from an Err"); }
+
+        @Override
+        public boolean isErr() { return true; }
+        @Override
+        public boolean isOk() { return false; }
+
+        @Override
+        public <T> T fold(Function<E, T> transformError, Function<R, T> transformValue) {
+            return transformError.apply(this.error);
+        }
+
+        @Override
+        public <T> Outcome<E, T> map(Function<R, T> transformValue) {
+            return Outcome.err(this.error);
+        }
+        @Override
+        public <E2> Outcome<E2, R> mapErr(Function<E, E2> transformError) {
+            return Outcome.err(transformError.apply(this.error));
+        }
+        @Override
+        public <T> Outcome<E, T> flatMap(Function<R, Outcome<E, T>> transformValue) {
+            return Outcome.err(this.error);
+        }
+        @Override
+        public <E2> Outcome<E2, R> recover(Function<E, Outcome<E2, R>> transformError) {
+            return transformError.apply(this.error);
+        }
+
+        @Override
+        public void run(Consumer<E> errorHandler, Consumer<R> okHandler) {
+            errorHandler.accept(this.error);
+        }
+
+        @Override
+        public <X extends Throwable> R getOrElseThrow(Function<E, X> errorToException) throws X {
+            throw errorToException.apply(this.error);
+        }
+
+        // Mix in the side, so that Err(x) and Ok(x) land in different hash buckets.
+        @Override
+        public int hashCode(){ return 31 * Objects.hashCode(this.error) + 1; }
+
+        /**
+         * An `Err` is equal to another object if that other object is another
+         *  `Err` containing an error that is equal to this instance's error.
+         */
+        @Override
+        public boolean equals(Object other){
+            if (other instanceof Err<?,?>){
+                final Err<?,?> otherAsErr = (Err<?,?>)other;
+                return Objects.equals(this.error, otherAsErr.error);
+            } else {
+                return false;
+            }
+        }
+    }
+
+    public static final class Ok<E, R> extends Outcome<E, R> {
+        private final R resultValue;
+        private Ok(R value) {
+            this.resultValue = value;
+        }
+
+        @Override
+        public E getError() { throw new NoSuchElementException("Tried to getError from an Ok"); }
+        @Override
+        public R getResult() { return this.resultValue; }
+
+        @Override
+        public boolean isErr() { return false; }
+        @Override
+        public boolean isOk() { return true; }
+
+        @Override
+        public <T> T fold(Function<E, T> transformError, Function<R, T> transformValue) {
+            return transformValue.apply(this.resultValue);
+        }
+
+        @Override
+        public <T> Outcome<E, T> map(Function<R, T> transformValue) {
+            return Outcome.ok(transformValue.apply(this.resultValue));
+        }
+        @Override
+        public <E2> Outcome<E2, R> mapErr(Function<E, E2> transformError) {
+            return Outcome.ok(this.resultValue);
+        }
+        @Override
+        public <T> Outcome<E, T> flatMap(Function<R, Outcome<E, T>> transformValue) {
+            return transformValue.apply(this.resultValue);
+        }
+        @Override
+        public <E2> Outcome<E2, R> recover(Function<E, Outcome<E2, R>> transformError) {
+            return Outcome.ok(this.resultValue);
+        }
+
+        @Override
+        public void run(Consumer<E> errorHandler, Consumer<R> okHandler) {
+            okHandler.accept(this.resultValue);
+        }
+
+        @Override
+        public <X extends Throwable> R getOrElseThrow(Function<E, X> errorToException) throws X {
+            return this.resultValue;
+        }
+
+        @Override
+        public int hashCode(){ return 31 * Objects.hashCode(this.resultValue) + 2; }
+
+        /**
+         * An `Ok` is equal to another object if that other object is another
+         *  `Ok` containing a value that is equal to this instance's value.
+         */
+        @Override
+        public boolean equals(Object other){
+            if (other instanceof Ok<?,?>){
+                final Ok<?,?> otherAsOk = (Ok<?,?>)other;
+                return Objects.equals(this.resultValue, otherAsOk.resultValue);
+            } else {
+                return false;
+            }
+        }
+    }
+}
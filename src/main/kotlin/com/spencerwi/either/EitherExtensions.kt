@@ -0,0 +1,53 @@
+package com.spencerwi.either
+
+/*
+ * Inline Kotlin counterparts to Either's Java API. Calling the Java methods
+ * from Kotlin allocates a java.util.function.Function for every capturing
+ * lambda; these are inlined at the call site instead, so they compile down to
+ * a plain branch.
+ *
+ * Kotlin always prefers a member over an extension with the same name, so
+ * extensions that mirror an existing Java method carry an `Inline` suffix.
+ */
+
+/**
+ * Inline version of [Either.fold].
+ */
+inline fun <L, R, T> Either<L, R>.foldInline(ifLeft: (L) -> T, ifRight: (R) -> T): T =
+    if (isRight) ifRight(right) else ifLeft(left)
+
+/**
+ * Inline version of [Either.mapLeft].
+ */
+inline fun <L, R, L2> Either<L, R>.mapLeftInline(transformLeft: (L) -> L2): Either<L2, R> =
+    if (isRight) Either.right(right) else Either.left(transformLeft(left))
+
+/**
+ * Inline version of [Either.mapRight].
+ */
+inline fun <L, R, R2> Either<L, R>.mapRightInline(transformRight: (R) -> R2): Either<L, R2> =
+    if (isRight) Either.right(transformRight(right)) else Either.left(left)
+
+/**
+ * Inline version of [Either.flatMapLeft].
+ */
+inline fun <L, R, L2> Either<L, R>.flatMapLeftInline(transformLeft: (L) -> Either<L2, R>): Either<L2, R> =
+    if (isRight) Either.right(right) else transformLeft(left)
+
+/**
+ * Inline version of [Either.flatMapRight].
+ */
+inline fun <L, R, R2> Either<L, R>.flatMapRightInline(transformRight: (R) -> Either<L, R2>): Either<L, R2> =
+    if (isRight) transformRight(right) else Either.left(left)
+
+/**
+ * @return the right-side value if this is a Right; otherwise, the result of applying [ifLeft] to the left-side value.
+ */
+inline fun <L, R> Either<L, R>.getOrElse(ifLeft: (L) -> R): R =
+    if (isRight) right else ifLeft(left)
+
+/**
+ * @return this Either if it is a Right; otherwise, a Right containing the result of applying [ifLeft] to the left-side value.
+ */
+inline fun <L, R> Either<L, R>.recover(ifLeft: (L) -> R): Either<L, R> =
+    if (isRight) this else Either.right(ifLeft(left))
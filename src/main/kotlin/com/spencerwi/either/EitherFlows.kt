@@ -0,0 +1,90 @@
+package com.spencerwi.either
+
+import kotlinx.coroutines.CoroutineScope
+import kotlinx.coroutines.channels.Channel
+import kotlinx.coroutines.channels.ReceiveChannel
+import kotlinx.coroutines.flow.Flow
+import kotlinx.coroutines.flow.collect
+import kotlinx.coroutines.flow.flow
+import kotlinx.coroutines.flow.takeWhile
+import kotlinx.coroutines.launch
+
+/*
+ * Flow operators for streams of Eithers. All of them consume the upstream
+ * flow incrementally, so a slow consumer slows down the producer instead of
+ * buffering the whole stream.
+ */
+
+/**
+ * Splits this flow into a channel of left-side values and a channel of
+ * right-side values, collecting it in a new coroutine in [scope].
+ *
+ * Each channel buffers up to [capacity] elements; once either one is full,
+ * collection pauses until it is drained, so both channels need to be consumed.
+ * Both channels are closed when the flow completes, and closed with the cause
+ * if it fails.
+ */
+fun <L, R> Flow<Either<L, R>>.splitIn(scope: CoroutineScope, capacity: Int = Channel.BUFFERED): Pair<ReceiveChannel<L>, ReceiveChannel<R>> {
+    val lefts = Channel<L>(capacity)
+    val rights = Channel<R>(capacity)
+    scope.launch {
+        var failure: Throwable? = null
+        try {
+            collect { either ->
+                if (either.isRight) rights.send(either.right) else lefts.send(either.left)
+            }
+        } catch (e: Throwable) {
+            failure = e
+            throw e
+        } finally {
+            lefts.close(failure)
+            rights.close(failure)
+        }
+    }
+    return Pair(lefts, rights)
+}
+
+/**
+ * Collects this flow into a single Either, stopping at the first Left.
+ * @return the first left-side value if there is one; otherwise, a Right containing every right-side value, in order.
+ */
+suspend fun <L, R> Flow<Either<L, R>>.sequence(): Either<L, List<R>> {
+    var firstLeft: Either<L, List<R>>? = null
+    val rights = ArrayList<R>()
+    takeWhile { either ->
+        if (either.isLeft) firstLeft = Either.left(either.left)
+        either.isRight
+    }.collect { rights.add(it.right) }
+    return firstLeft ?: Either.right(rights)
+}
+
+/**
+ * Groups consecutive right-side values into lists of up to [size] elements,
+ * passing left-side values through individually. Order is preserved: any
+ * partial batch of Rights is emitted before a Left that follows it, and the
+ * final partial batch is emitted when the flow completes.
+ */
+fun <L, R> Flow<Either<L, R>>.batchRights(size: Int): Flow<Either<L, List<R>>> {
+    require(size > 0) { "size must be positive" }
+    return flow {
+        var batch = ArrayList<R>(size)
+        collect { either ->
+            if (either.isRight) {
+                batch.add(either.right)
+                if (batch.size == size) {
+                    emit(Either.right<L, List<R>>(batch))
+                    batch = ArrayList(size)
+                }
+            } else {
+                if (batch.isNotEmpty()) {
+                    emit(Either.right<L, List<R>>(batch))
+                    batch = ArrayList(size)
+                }
+                emit(Either.left<L, List<R>>(either.left))
+            }
+        }
+        if (batch.isNotEmpty()) {
+            emit(Either.right<L, List<R>>(batch))
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.spencerwi.either
+
+import kotlinx.coroutines.CancellationException
+import kotlinx.coroutines.Dispatchers
+import kotlinx.coroutines.async
+import kotlinx.coroutines.awaitAll
+import kotlinx.coroutines.coroutineScope
+import kotlinx.coroutines.runInterruptible
+import kotlin.coroutines.CoroutineContext
+
+/*
+ * Coroutine-friendly counterparts to Result's Java API.
+ *
+ * These never capture a CancellationException in an `Err`: it is always
+ * rethrown, so that cancelling a coroutine cancels it rather than turning into
+ * an ordinary failed Result.
+ */
+
+/**
+ * Suspending version of [Result.attempt]: runs [block], wrapping its return
+ * value in an `Ok`, or any exception it throws (other than a
+ * [CancellationException]) in an `Err`.
+ */
+suspend fun <R> attemptSuspending(block: suspend () -> R): Result<R> =
+    try {
+        Result.ok(block())
+    } catch (e: CancellationException) {
+        throw e
+    } catch (e: Exception) {
+        Result.err(e)
+    }
+
+/**
+ * Runs a blocking [supplier] on [context] (by default, [Dispatchers.IO]) so that
+ * it does not block the calling coroutine's thread. If the calling coroutine
+ * is cancelled, the thread running [supplier] is interrupted.
+ */
+suspend fun <R> attemptBlocking(context: CoroutineContext = Dispatchers.IO, supplier: ExceptionThrowingSupplier<R>): Result<R> =
+    attemptSuspending { runInterruptible(context) { supplier.get() } }
+
+/**
+ * Suspending version of [Result.map].
+ */
+suspend fun <R, T> Result<R>.mapSuspending(transformValue: suspend (R) -> T): Result<T> =
+    if (isOk) attemptSuspending { transformValue(result) } else Result.err(exception)
+
+/**
+ * Suspending version of [Result.flatMap].
+ */
+suspend fun <R, T> Result<R>.flatMapSuspending(transformValue: suspend (R) -> Result<T>): Result<T> =
+    if (isOk) {
+        try {
+            transformValue(result)
+        } catch (e: CancellationException) {
+            throw e
+        } catch (e: Exception) {
+            Result.err(e)
+        }
+    } else {
+        Result.err(exception)
+    }
+
+/**
+ * Runs [transform] on every element concurrently, as children of the calling
+ * coroutine, and waits for all of them. A failing element produces an `Err` in
+ * its position instead of cancelling its siblings; cancelling the caller
+ * cancels every element.
+ * @return one Result per element, in the same order as the elements.
+ */
+suspend fun <T, R> Iterable<T>.attemptAll(transform: suspend (T) -> R): List<Result<R>> =
+    coroutineScope {
+        map { element -> async { attemptSuspending { transform(element) } } }.awaitAll()
+    }
@@ -0,0 +1,74 @@
+package com.spencerwi.either
+
+/*
+ * Inline Kotlin counterparts to Result's Java API. See EitherExtensions.kt for
+ * why these exist and how they are named.
+ */
+
+/**
+ * Inline version of [Result.attempt]: runs [block], wrapping its return value
+ * in an `Ok`, or any exception it throws in an `Err`.
+ */
+inline fun <R> resultOf(block: () -> R): Result<R> =
+    try {
+        Result.ok(block())
+    } catch (e: Exception) {
+        Result.err(e)
+    }
+
+/**
+ * Converts the result of Kotlin's [runCatching] into a [Result]. Since a
+ * [Result] can only hold an [Exception], any other [Throwable] (such as an
+ * [Error]) is rethrown.
+ */
+fun <R> kotlin.Result<R>.toResult(): Result<R> =
+    fold(
+        onSuccess = { Result.ok(it) },
+        onFailure = { if (it is Exception) Result.err(it) else throw it }
+    )
+
+/**
+ * @return the wrapped value if this is an `Ok`; otherwise, throws the wrapped exception. Pairs with [runCatching].
+ */
+fun <R> Result<R>.getOrThrow(): R =
+    if (isOk) result else throw exception
+
+/**
+ * Inline version of [Result.fold].
+ */
+inline fun <R, T> Result<R>.foldInline(ifErr: (Exception) -> T, ifOk: (R) -> T): T =
+    if (isOk) ifOk(result) else ifErr(exception)
+
+/**
+ * Inline version of [Result.map]: like the Java method, an exception thrown by
+ * [transformValue] is captured in an `Err`.
+ */
+inline fun <R, T> Result<R>.mapInline(transformValue: (R) -> T): Result<T> =
+    if (isOk) resultOf { transformValue(result) } else Result.err(exception)
+
+/**
+ * Inline version of [Result.flatMap]: like the Java method, an exception
+ * thrown by [transformValue] is captured in an `Err`.
+ */
+inline fun <R, T> Result<R>.flatMapInline(transformValue: (R) -> Result<T>): Result<T> =
+    if (isOk) {
+        try {
+            transformValue(result)
+        } catch (e: Exception) {
+            Result.err(e)
+        }
+    } else {
+        Result.err(exception)
+    }
+
+/**
+ * Inline version of [Result.getOrElse], passing the wrapped exception to [ifErr].
+ */
+inline fun <R> Result<R>.getOrElseInline(ifErr: (Exception) -> R): R =
+    if (isOk) result else ifErr(exception)
+
+/**
+ * @return this Result if it is an `Ok`; otherwise, an `Ok` containing the result of applying [ifErr] to the wrapped exception.
+ */
+inline fun <R> Result<R>.recover(ifErr: (Exception) -> R): Result<R> =
+    if (isOk) this else Result.ok(ifErr(exception))
@@ -0,0 +1,77 @@
+package com.spencerwi.either;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("AdaptiveLimiter with Java")
+public class AdaptiveLimiterTest {
+    @Test
+    public void growsOnlyWhileTheLimitIsBeingUsed() {
+        AdaptiveLimiter limiter = AdaptiveLimiter.aimd(2, 1, 10, Duration.ofSeconds(5));
+
+        for (int i = 0; i < 100; i++) {
+            assertThat(limiter.attempt(() -> "ok")).isEqualTo(Result.ok("ok"));
+        }
+
+        // One caller at a time only ever uses one slot, so the limit stops growing once that is under half of it.
+        assertThat(limiter.currentLimit()).isEqualTo(3);
+    }
+
+    @Test
+    public void backsOffMultiplicativelyOnErrs() {
+        AdaptiveLimiter limiter = AdaptiveLimiter.aimd(10, 2, 100, Duration.ofSeconds(5), 0.5);
+
+        for (int i = 0; i < 3; i++) {
+            limiter.attempt(() -> { throw new Exception("down"); });
+        }
+
+        assertThat(limiter.currentLimit()).isEqualTo(2);
+    }
+
+    @Test
+    public void backsOffOnSlowSuccesses() {
+        AdaptiveLimiter limiter = AdaptiveLimiter.aimd(10, 1, 100, Duration.ofMillis(1), 0.5);
+
+        Result<String> result = limiter.attempt(() -> { Thread.sleep(20); return "slow"; });
+
+        assertThat(result).isEqualTo(Result.ok("slow"));
+        assertThat(limiter.currentLimit()).isEqualTo(5);
+    }
+
+    @Test
+    public void rejectsAttemptsBeyondTheLimitWithoutRunningThem() throws Exception {
+        AdaptiveLimiter limiter = AdaptiveLimiter.aimd(1, 1, 1, Duration.ofSeconds(5));
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Result<String>> holder = CompletableFuture.supplyAsync(() -> limiter.attempt(() -> {
+            started.countDown();
+            release.await();
+            return "first";
+        }));
+        started.await();
+
+        Result<String> rejected = limiter.attempt(() -> "second");
+        release.countDown();
+
+        assertThat(rejected.getException()).isInstanceOf(AttemptRejectedException.class);
+        assertThat(limiter.rejectedCount()).isEqualTo(1);
+        assertThat(holder.get()).isEqualTo(Result.ok("first"));
+        assertThat(limiter.inFlight()).isZero();
+        assertThat(limiter.currentLimit()).isEqualTo(1);
+    }
+
+    @Test
+    public void rejectsInvalidConfiguration() {
+        assertThatThrownBy(() -> AdaptiveLimiter.aimd(0, 0, 10, Duration.ofSeconds(1))).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> AdaptiveLimiter.aimd(20, 1, 10, Duration.ofSeconds(1))).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> AdaptiveLimiter.aimd(5, 1, 10, Duration.ZERO)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> AdaptiveLimiter.aimd(5, 1, 10, Duration.ofSeconds(1), 1.0)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,159 @@
+package com.spencerwi.either;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("BatchLoader with Java")
+public class BatchLoaderTest {
+    private ScheduledExecutorService scheduler;
+    private final List<List<Integer>> bulkCalls = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    public void startScheduler(){
+        scheduler = Executors.newScheduledThreadPool(2);
+    }
+
+    @AfterEach
+    public void stopScheduler(){
+        scheduler.shutdownNow();
+    }
+
+    private Map<Integer, String> squaresOfEvens(List<Integer> keys) {
+        bulkCalls.add(keys);
+        Map<Integer, String> values = new HashMap<>();
+        for (Integer key : keys) {
+            if (key % 2 == 0) values.put(key, "v" + key * key);
+        }
+        return values;
+    }
+
+    @Test
+    public void collapsesLookupsWithinTheWindowIntoOneBulkCall() {
+        BatchLoader<Integer, String> loader = BatchLoader.of(this::squaresOfEvens, 100, Duration.ofMillis(50), scheduler);
+
+        List<CompletableFuture<Result<String>>> lookups = new ArrayList<>();
+        for (int key = 0; key < 10; key += 2) {
+            lookups.add(loader.load(key));
+        }
+
+        assertThat(lookups.get(3).join()).isEqualTo(Result.ok("v36"));
+        assertThat(lookups).allSatisfy(lookup -> assertThat(lookup.join().isOk()).isTrue());
+        assertThat(bulkCalls).containsExactly(Arrays.asList(0, 2, 4, 6, 8));
+        assertThat(loader.batchCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void dispatchesAsSoonAsTheBatchIsFull() {
+        BatchLoader<Integer, String> loader = BatchLoader.of(this::squaresOfEvens, 3, Duration.ofHours(1), scheduler);
+
+        List<CompletableFuture<Result<String>>> lookups = new ArrayList<>();
+        for (int key = 0; key < 6; key++) {
+            lookups.add(loader.load(key * 2));
+        }
+
+        lookups.forEach(CompletableFuture::join);
+        assertThat(bulkCalls).hasSize(2).allSatisfy(keys -> assertThat(keys).hasSize(3));
+    }
+
+    @Test
+    public void missingKeysGetTheirOwnErr() {
+        BatchLoader<Integer, String> loader = BatchLoader.of(this::squaresOfEvens, 100, Duration.ofMillis(10), scheduler);
+
+        CompletableFuture<Result<String>> present = loader.load(2);
+        CompletableFuture<Result<String>> missing = loader.load(3);
+
+        assertThat(present.join()).isEqualTo(Result.ok("v4"));
+        assertThat(missing.join().getException())
+                .isInstanceOf(NoSuchElementException.class)
+                .hasMessageContaining("3");
+        assertThat(bulkCalls).hasSize(1);
+    }
+
+    @Test
+    public void aFailedBatchFailsEveryLookupWithTheSameException() {
+        IllegalStateException failure = new IllegalStateException("backend down");
+        BatchLoader<Integer, String> loader = BatchLoader.of(keys -> { throw failure; }, 100, Duration.ofMillis(10), scheduler);
+
+        CompletableFuture<Result<String>> first = loader.load(1);
+        CompletableFuture<Result<String>> second = loader.load(2);
+
+        assertThat(first.join().getException()).isSameAs(failure);
+        assertThat(second.join().getException()).isSameAs(failure);
+    }
+
+    @Test
+    public void lookupsOfTheSameKeyInOneBatchShareAResult() {
+        BatchLoader<Integer, String> loader = BatchLoader.of(this::squaresOfEvens, 100, Duration.ofHours(1), scheduler);
+
+        CompletableFuture<Result<String>> first = loader.load(4);
+        CompletableFuture<Result<String>> second = loader.load(4);
+        loader.dispatch();
+
+        assertThat(second).isSameAs(first);
+        assertThat(first.join()).isEqualTo(Result.ok("v16"));
+        assertThat(bulkCalls).containsExactly(Collections.singletonList(4));
+    }
+
+    @Test
+    public void dispatchSendsThePartialBatchStraightAway() {
+        BatchLoader<Integer, String> loader = BatchLoader.of(this::squaresOfEvens, 100, Duration.ofHours(1), scheduler);
+
+        CompletableFuture<Result<String>> lookup = loader.load(2);
+        loader.dispatch();
+
+        assertThat(lookup.join()).isEqualTo(Result.ok("v4"));
+    }
+
+    @Test
+    public void getWaitsForTheBatch() {
+        BatchLoader<Integer, String> loader = BatchLoader.of(this::squaresOfEvens, 100, Duration.ofMillis(5), scheduler);
+
+        assertThat(loader.get(8)).isEqualTo(Result.ok("v64"));
+    }
+
+    @Test
+    public void rejectedBatchesFailWithAttemptRejectedException() {
+        scheduler.shutdownNow();
+        BatchLoader<Integer, String> loader = BatchLoader.of(this::squaresOfEvens, 1, Duration.ofMillis(5), scheduler);
+
+        assertThat(loader.get(2).getException()).isInstanceOf(AttemptRejectedException.class);
+    }
+
+    @Test
+    public void aLoneLookupFailsWhenTheWindowTimerIsRejected() {
+        scheduler.shutdownNow();
+        BatchLoader<Integer, String> loader = BatchLoader.of(this::squaresOfEvens, 100, Duration.ofMillis(5), scheduler);
+
+        CompletableFuture<Result<String>> lookup = loader.load(2);
+
+        assertThat(lookup).isDone();
+        assertThat(lookup.join().getException()).isInstanceOf(AttemptRejectedException.class);
+        assertThat(bulkCalls).isEmpty();
+    }
+
+    @Test
+    public void rejectsInvalidConfiguration() {
+        assertThatThrownBy(() -> BatchLoader.of(this::squaresOfEvens, 0, Duration.ofMillis(5), scheduler))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> BatchLoader.of(this::squaresOfEvens, 10, Duration.ofMillis(-5), scheduler))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,111 @@
+package com.spencerwi.either;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("BatchingSink with Java")
+public class BatchingSinkTest {
+    private static Either<String, Integer> evensRight(int i) {
+        return (i % 2 == 0) ? Either.right(i) : Either.left("odd " + i);
+    }
+
+    @Test
+    public void takesTheLeftSideBatcherFirst() {
+        List<String> lefts = new ArrayList<>();
+        List<String> rights = new ArrayList<>();
+
+        try (BatchingSink<String, String> sink = BatchingSink.of(
+                BatchingSink.batchesOf(10, lefts::addAll),
+                BatchingSink.batchesOf(10, rights::addAll))) {
+            sink.accept(Either.left("failure"));
+            sink.accept(Either.right("success"));
+        }
+
+        assertThat(lefts).containsExactly("failure");
+        assertThat(rights).containsExactly("success");
+    }
+
+    @Test
+    public void flushesFullBatchesAsTheyFillAndTheRemainderOnClose() {
+        List<List<Integer>> rightBatches = new ArrayList<>();
+        List<List<String>> leftBatches = new ArrayList<>();
+
+        try (BatchingSink<String, Integer> sink = BatchingSink.of(
+                BatchingSink.batchesOf(3, leftBatches::add),
+                BatchingSink.batchesOf(4, rightBatches::add))) {
+            IntStream.range(0, 8).mapToObj(BatchingSinkTest::evensRight).forEach(sink);
+
+            assertThat(rightBatches).containsExactly(Arrays.asList(0, 2, 4, 6));
+            assertThat(leftBatches).containsExactly(Arrays.asList("odd 1", "odd 3", "odd 5"));
+        }
+
+        assertThat(leftBatches).hasSize(2);
+        assertThat(leftBatches.get(1)).containsExactly("odd 7");
+    }
+
+    @Test
+    public void byteBoundedBatchesNeverExceedTheLimitUnlessOneValueDoes() {
+        List<List<String>> batches = new ArrayList<>();
+        BatchingSink<Integer, String> sink = BatchingSink.of(
+                BatchingSink.batchesOf(1, lefts -> {}),
+                BatchingSink.batchesOfBytes(10, String::length, batches::add));
+
+        for (String value : new String[]{ "aaaa", "bbbb", "cc", "dddddd", "eeeeeeeeeeeeeee", "f" }) {
+            sink.accept(Either.right(value));
+        }
+        sink.close();
+
+        assertThat(batches).containsExactly(
+                Arrays.asList("aaaa", "bbbb", "cc"),
+                Collections.singletonList("dddddd"),
+                Collections.singletonList("eeeeeeeeeeeeeee"),
+                Collections.singletonList("f")
+        );
+        assertThat(sink.getFlushedRightCount()).isEqualTo(6);
+    }
+
+    @Test
+    public void byteBoundedBatchesCanAlsoBeCappedByCount() {
+        List<List<String>> batches = new ArrayList<>();
+        BatchingSink<Integer, String> sink = BatchingSink.of(
+                BatchingSink.batchesOf(1, lefts -> {}),
+                BatchingSink.<String>batchesOfBytes(1_000, String::length, batches::add).withMaxCount(2));
+
+        IntStream.range(0, 5).forEach(i -> sink.accept(Either.right("x")));
+        sink.close();
+
+        assertThat(batches).extracting(List::size).containsExactly(2, 2, 1);
+    }
+
+    @Test
+    public void parallelStreamsDeliverEveryValueExactlyOnce() {
+        List<Integer> rights = Collections.synchronizedList(new ArrayList<>());
+        List<Integer> batchSizes = Collections.synchronizedList(new ArrayList<>());
+
+        try (BatchingSink<String, Integer> sink = BatchingSink.of(
+                BatchingSink.batchesOf(500, batch -> {}),
+                BatchingSink.batchesOf(500, batch -> { batchSizes.add(batch.size()); rights.addAll(batch); }))) {
+            IntStream.range(0, 100_001).parallel().mapToObj(BatchingSinkTest::evensRight).forEach(sink);
+        }
+
+        assertThat(rights.stream().sorted().collect(Collectors.toList()))
+                .isEqualTo(IntStream.range(0, 100_001).filter(i -> i % 2 == 0).boxed().collect(Collectors.toList()));
+        assertThat(batchSizes.stream().filter(size -> size != 500)).containsExactly(1);
+    }
+
+    @Test
+    public void rejectsInvalidBatchSizes() {
+        assertThatThrownBy(() -> BatchingSink.batchesOf(0, batch -> {})).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> BatchingSink.batchesOfBytes(0, Object::hashCode, batch -> {})).isInstanceOf(IllegalArgumentException.class);
+    }
+}
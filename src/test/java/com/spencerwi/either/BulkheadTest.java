@@ -0,0 +1,87 @@
+package com.spencerwi.either;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Bulkhead with Java")
+public class BulkheadTest {
+    private ExecutorService executor;
+
+    @BeforeEach
+    public void startExecutor(){
+        executor = Executors.newCachedThreadPool();
+    }
+
+    @AfterEach
+    public void stopExecutor(){
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void runsSupplierWhenASlotIsFree(){
+        Bulkhead bulkhead = Bulkhead.of(1);
+
+        assertThat(bulkhead.attempt(() -> 42)).isEqualTo(Result.ok(42));
+        assertThat(bulkhead.inFlight()).isZero();
+    }
+
+    @Test
+    public void wrapsSupplierExceptionsLikeAttempt(){
+        Bulkhead bulkhead = Bulkhead.of(1);
+        Exception ex = new Exception("Error! Failed!");
+
+        assertThat(bulkhead.attempt(() -> { throw ex; })).isEqualTo(Result.err(ex));
+        assertThat(bulkhead.inFlight()).isZero();
+    }
+
+    @Test
+    public void rejectsImmediatelyWhenFull() throws Exception {
+        Bulkhead bulkhead = Bulkhead.of(1);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Future<Result<String>> occupant = executor.submit(() -> bulkhead.attempt(() -> {
+            started.countDown();
+            release.await();
+            return "occupant";
+        }));
+        started.await(1, TimeUnit.SECONDS);
+
+        Result<String> rejected = bulkhead.attempt(() -> "rejected");
+
+        assertThat(rejected.isErr()).isTrue();
+        assertThat(rejected.getException()).isInstanceOf(AttemptRejectedException.class);
+        assertThat(rejected.getException().getStackTrace()).isEmpty();
+        assertThat(bulkhead.inFlight()).isEqualTo(1);
+        assertThat(bulkhead.rejectedCount()).isEqualTo(1);
+
+        release.countDown();
+        assertThat(occupant.get(1, TimeUnit.SECONDS)).isEqualTo(Result.ok("occupant"));
+        assertThat(bulkhead.inFlight()).isZero();
+    }
+
+    @Test
+    public void waitsUpToMaxWaitForASlot() throws Exception {
+        Bulkhead bulkhead = Bulkhead.of(1, Duration.ofSeconds(5));
+        CountDownLatch started = new CountDownLatch(1);
+        executor.submit(() -> bulkhead.attempt(() -> {
+            started.countDown();
+            Thread.sleep(50);
+            return "occupant";
+        }));
+        started.await(1, TimeUnit.SECONDS);
+
+        assertThat(bulkhead.attempt(() -> "waited")).isEqualTo(Result.ok("waited"));
+        assertThat(bulkhead.rejectedCount()).isZero();
+    }
+}
@@ -0,0 +1,50 @@
+package com.spencerwi.either;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ChunkedList with Java")
+public class ChunkedListTest {
+    private static ChunkedList<Integer> rangeOf(int from, int to) {
+        ChunkedList<Integer> list = new ChunkedList<>();
+        IntStream.range(from, to).forEach(list::add);
+        return list;
+    }
+
+    @Test
+    public void keepsElementsInOrderAcrossManyChunks() {
+        ChunkedList<Integer> list = rangeOf(0, ChunkedList.MAX_CHUNK * 3);
+
+        assertThat(list.size()).isEqualTo(ChunkedList.MAX_CHUNK * 3);
+        assertThat(list.toList()).isEqualTo(IntStream.range(0, ChunkedList.MAX_CHUNK * 3).boxed().collect(Collectors.toList()));
+    }
+
+    @Test
+    public void appendLinksPartiallyFilledChunksAndKeepsAdding() {
+        ChunkedList<Integer> list = rangeOf(0, 5);
+        ChunkedList<Integer> other = rangeOf(5, 40);
+
+        list.append(other);
+        list.add(40);
+        list.append(new ChunkedList<>());
+
+        assertThat(list.toList()).isEqualTo(IntStream.rangeClosed(0, 40).boxed().collect(Collectors.toList()));
+        assertThat(other.isEmpty()).isTrue();
+    }
+
+    @Test
+    public void appendOntoEmptyListTakesOverTheOther() {
+        ChunkedList<Integer> list = new ChunkedList<>();
+
+        list.append(rangeOf(0, 3));
+        list.add(3);
+
+        assertThat(list.toList()).containsExactly(0, 1, 2, 3);
+        assertThat(new ChunkedList<Integer>().toList()).isEmpty();
+    }
+}
@@ -0,0 +1,69 @@
+package com.spencerwi.either;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Deadline with Java")
+public class DeadlineTest {
+    @Test
+    public void runsEveryStepWhileThereIsBudgetLeft() {
+        Deadline deadline = Deadline.after(Duration.ofHours(1));
+
+        Result<Integer> result = deadline.attempt(() -> "21")
+                .flatMap(deadline.step(Integer::parseInt))
+                .flatMap(deadline.stepWithin((value, remaining) -> {
+                    assertThat(remaining).isGreaterThan(Duration.ZERO).isLessThanOrEqualTo(Duration.ofHours(1));
+                    return value * 2;
+                }));
+
+        assertThat(result).isEqualTo(Result.ok(42));
+        assertThat(deadline.isExpired()).isFalse();
+    }
+
+    @Test
+    public void skipsStepsOnceTheDeadlineHasPassed() throws InterruptedException {
+        Deadline deadline = Deadline.after(Duration.ofMillis(20));
+        AtomicInteger downstreamCalls = new AtomicInteger();
+
+        Result<String> result = deadline.attempt(() -> { Thread.sleep(50); return "slow"; })
+                .flatMap(deadline.step(value -> { downstreamCalls.incrementAndGet(); return value + "!"; }))
+                .flatMap(deadline.stepWithin((value, remaining) -> { downstreamCalls.incrementAndGet(); return value + "?"; }));
+
+        assertThat(result.isErr()).isTrue();
+        assertThat(result.getException()).isInstanceOf(DeadlineExceededException.class).hasMessageContaining("20ms");
+        assertThat(downstreamCalls.get()).isZero();
+        assertThat(deadline.isExpired()).isTrue();
+        assertThat(deadline.remaining()).isEqualTo(Duration.ZERO);
+    }
+
+    @Test
+    public void expiredDeadlineNeverRunsTheSupplier() {
+        Deadline deadline = Deadline.after(Duration.ZERO);
+        AtomicInteger calls = new AtomicInteger();
+
+        Result<Integer> result = deadline.attemptWithin(remaining -> calls.incrementAndGet());
+
+        assertThat(result.getException()).isInstanceOf(DeadlineExceededException.class);
+        assertThat(calls.get()).isZero();
+    }
+
+    @Test
+    public void atMostOnlyEverTightensTheDeadline() {
+        Deadline loose = Deadline.after(Duration.ofHours(1));
+
+        assertThat(loose.atMost(Duration.ofSeconds(1)).remaining()).isLessThanOrEqualTo(Duration.ofSeconds(1));
+        assertThat(loose.atMost(Duration.ofDays(1))).isSameAs(loose);
+    }
+
+    @Test
+    public void rejectsNegativeBudgetsAndSaturatesHugeOnes() {
+        assertThatThrownBy(() -> Deadline.after(Duration.ofMillis(-1))).isInstanceOf(IllegalArgumentException.class);
+        assertThat(Deadline.after(Duration.ofSeconds(Long.MAX_VALUE)).isExpired()).isFalse();
+    }
+}
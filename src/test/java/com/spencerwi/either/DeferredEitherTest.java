@@ -0,0 +1,42 @@
+package com.spencerwi.either;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("DeferredEither with Java")
+public class DeferredEitherTest {
+    private static final int DEPTH = 1_000_000;
+
+    private static DeferredEither<String, Integer> countDown(int n){
+        if (n == 0) {
+            return DeferredEither.right(0);
+        }
+        return DeferredEither.<String, Integer>defer(() -> countDown(n - 1)).flatMapRight(x -> DeferredEither.right(x + 1));
+    }
+
+    @Test
+    public void runsDeepRecursionInConstantStackSpace(){
+        assertThat(countDown(DEPTH).run()).isEqualTo(Either.right(DEPTH));
+    }
+
+    @Test
+    public void stopsAtTheFirstLeft(){
+        DeferredEither<String, Integer> chain = DeferredEither.right(0);
+        for (int i = 0; i < DEPTH; i++) {
+            int step = i;
+            chain = chain.flatMapRight(x -> step == 10 ? DeferredEither.left("stopped at " + x) : DeferredEither.right(x + 1));
+        }
+
+        assertThat(chain.run()).isEqualTo(Either.left("stopped at 10"));
+    }
+
+    @Test
+    public void transformsEachSideLikeEither(){
+        assertThat(DeferredEither.<String, Integer>left("a").mapLeft(String::length).run()).isEqualTo(Either.left(1));
+        assertThat(DeferredEither.<String, Integer>right(1).mapRight(x -> x * 2).run()).isEqualTo(Either.right(2));
+        assertThat(DeferredEither.<String, Integer>left("a").flatMapLeft(s -> DeferredEither.<Integer, Integer>right(0)).run()).isEqualTo(Either.right(0));
+        assertThat(DeferredEither.<String, Integer>right(1).flatMapLeft(s -> DeferredEither.<Integer, Integer>left(0)).run()).isEqualTo(Either.right(1));
+    }
+}
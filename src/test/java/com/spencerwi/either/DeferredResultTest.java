@@ -0,0 +1,67 @@
+package com.spencerwi.either;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("DeferredResult with Java")
+public class DeferredResultTest {
+    private static final int DEPTH = 1_000_000;
+
+    private static DeferredResult<Long> sumTo(long n){
+        if (n == 0) {
+            return DeferredResult.ok(0L);
+        }
+        return DeferredResult.defer(() -> sumTo(n - 1)).flatMap(sum -> DeferredResult.ok(sum + n));
+    }
+
+    @Test
+    public void doesNotRunUntilAsked(){
+        AtomicInteger calls = new AtomicInteger();
+        DeferredResult<Integer> deferred = DeferredResult.attempt(calls::incrementAndGet).map(x -> x * 2);
+
+        assertThat(calls.get()).isZero();
+        assertThat(deferred.run()).isEqualTo(Result.ok(2));
+        assertThat(calls.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void runsDeepRecursionInConstantStackSpace(){
+        assertThat(sumTo(DEPTH).run()).isEqualTo(Result.ok((long) DEPTH * (DEPTH + 1) / 2));
+    }
+
+    @Test
+    public void runsLongFlatMapChainsInConstantStackSpace(){
+        DeferredResult<Integer> chain = DeferredResult.ok(0);
+        for (int i = 0; i < DEPTH; i++) {
+            chain = chain.flatMap(x -> DeferredResult.ok(x + 1));
+        }
+
+        assertThat(chain.run()).isEqualTo(Result.ok(DEPTH));
+    }
+
+    @Test
+    public void skipsRemainingStepsAfterAnException(){
+        Exception ex = new Exception("Error! Failed!");
+        AtomicInteger stepsAfterFailure = new AtomicInteger();
+
+        Result<Integer> result = DeferredResult.ok(1)
+                .<Integer>map(x -> { throw ex; })
+                .map(x -> stepsAfterFailure.incrementAndGet())
+                .flatMap(x -> DeferredResult.ok(stepsAfterFailure.incrementAndGet()))
+                .run();
+
+        assertThat(result).isEqualTo(Result.err(ex));
+        assertThat(stepsAfterFailure.get()).isZero();
+    }
+
+    @Test
+    public void capturesExceptionsThrownByFlatMap(){
+        Exception ex = new Exception("Error! Failed!");
+
+        assertThat(DeferredResult.ok(1).flatMap(x -> { throw ex; }).run()).isEqualTo(Result.err(ex));
+    }
+}
@@ -4,8 +4,14 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -54,4 +60,63 @@ public class EitherCollectorsTest {
         assertThat(eitherRightList.getRight()).isEmpty();
     }
 
+    @Test
+    public void checkGroupingCollectors(){
+        List<Either<String, Integer>> listOfEithers = Stream.of(
+                Either.<String, Integer>left("a-left"),
+                Either.<String, Integer>right(1),
+                Either.<String, Integer>right(2),
+                Either.<String, Integer>left("b-left"),
+                Either.<String, Integer>right(3)
+        ).collect(Collectors.toList());
+        Function<Either<String, Integer>, String> byGroup = either -> either.fold(
+                left -> left.substring(0, 1),
+                right -> right % 2 == 0 ? "a" : "b"
+        );
+
+        Map<String, Either<List<String>, List<Integer>>> leftBiased = listOfEithers.stream()
+                .collect(EitherCollectors.groupingByLeftBiased(byGroup));
+        assertThat(leftBiased.get("a")).isEqualTo(Either.left(Collections.singletonList("a-left")));
+        assertThat(leftBiased.get("b")).isEqualTo(Either.left(Collections.singletonList("b-left")));
+
+        Map<String, Either<List<String>, List<Integer>>> rightBiased = listOfEithers.stream()
+                .collect(EitherCollectors.groupingByRightBiased(byGroup));
+        assertThat(rightBiased.get("a")).isEqualTo(Either.right(Collections.singletonList(2)));
+        assertThat(rightBiased.get("b")).isEqualTo(Either.right(Arrays.asList(1, 3)));
+    }
+
+    @Test
+    public void checkConcurrentGroupingCollectorsWithParallelStreams(){
+        ConcurrentMap<Integer, Either<List<Integer>, List<Integer>>> grouped = IntStream.range(0, 100_000)
+                .parallel()
+                .mapToObj(i -> i % 3 == 0 ? Either.<Integer, Integer>left(i) : Either.<Integer, Integer>right(i))
+                .unordered()
+                .collect(EitherCollectors.groupingByConcurrentRightBiased(either -> either.fold(i -> i % 10, i -> i % 10)));
+
+        assertThat(grouped).hasSize(10);
+        int total = grouped.values().stream().mapToInt(either -> either.getRight().size()).sum();
+        assertThat(total).isEqualTo((int) IntStream.range(0, 100_000).filter(i -> i % 3 != 0).count());
+    }
+
+    @Test
+    public void checkParallelUnorderedStreamsDoNotLoseElements(){
+        Either<List<Integer>, List<Integer>> collected = IntStream.range(0, 100_000)
+                .parallel()
+                .mapToObj(Either::<Integer, Integer>right)
+                .unordered()
+                .collect(EitherCollectors.toRightBiased());
+
+        assertThat(collected.getRight()).hasSize(100_000);
+    }
+
+    @Test
+    public void checkParallelStreamsKeepEncounterOrder(){
+        Either<List<Integer>, List<Integer>> collected = IntStream.range(0, 100_000)
+                .parallel()
+                .mapToObj(i -> i % 2 == 0 ? Either.<Integer, Integer>left(i) : Either.<Integer, Integer>right(i))
+                .collect(EitherCollectors.toLeftBiased());
+
+        assertThat(collected.getLeft()).isEqualTo(IntStream.range(0, 100_000).filter(i -> i % 2 == 0).boxed().collect(Collectors.toList()));
+    }
+
 }
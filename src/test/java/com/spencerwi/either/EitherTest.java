@@ -4,7 +4,9 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.util.HashSet;
 import java.util.NoSuchElementException;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -206,10 +208,26 @@ public class EitherTest {
             assertThat(leftIsHello).isNotEqualTo(hello);
         }
         @Test
-        public void hasSameHashCodeAsWrappedLeftValue(){
+        public void hasSameHashCodeAsEqualLeft(){
             Either<String, Integer> leftOnly = Either.left("Test");
 
-            assertThat(leftOnly.hashCode()).isEqualTo(leftOnly.getLeft().hashCode());
+            assertThat(leftOnly.hashCode()).isEqualTo(Either.left("Test").hashCode());
+        }
+        @Test
+        public void hasDifferentHashCodeFromRightWithSameValue(){
+            Either<String, String> leftOnly = Either.left("Test");
+
+            assertThat(leftOnly.hashCode()).isNotEqualTo(Either.right("Test").hashCode());
+        }
+        @Test
+        public void isNullSafeForHashCodeAndEquals(){
+            Either<String, Integer> leftNull = Either.left(null);
+
+            assertThat(leftNull.hashCode()).isEqualTo(Either.left(null).hashCode());
+            assertThat(leftNull).isEqualTo(Either.left(null));
+            assertThat(leftNull).isNotEqualTo(Either.left("Test"));
+            assertThat(Either.left("Test")).isNotEqualTo(leftNull);
+            assertThat(leftNull).isNotEqualTo(Either.right(null));
         }
     }
 
@@ -387,10 +405,29 @@ public class EitherTest {
             assertThat(rightIs42).isNotEqualTo(fortyTwo);
         }
         @Test
-        public void hasSameHashCodeAsWrappedRightValue(){
+        public void hasSameHashCodeAsEqualRight(){
             Either<String, Integer> rightOnly = Either.right(42);
 
-            assertThat(rightOnly.hashCode()).isEqualTo(rightOnly.getRight().hashCode());
+            assertThat(rightOnly.hashCode()).isEqualTo(Either.right(42).hashCode());
+        }
+        @Test
+        public void isNullSafeForHashCodeAndEquals(){
+            Either<String, Integer> rightNull = Either.right(null);
+
+            assertThat(rightNull.hashCode()).isEqualTo(Either.right(null).hashCode());
+            assertThat(rightNull).isEqualTo(Either.right(null));
+            assertThat(rightNull).isNotEqualTo(Either.right(42));
+            assertThat(Either.right(42)).isNotEqualTo(rightNull);
+        }
+        @Test
+        public void mixedSidesDoNotCollideInHashSets(){
+            Set<Integer> hashes = new HashSet<>();
+            for (int i = 0; i < 1000; i++) {
+                hashes.add(Either.<Integer, Integer>left(i).hashCode());
+                hashes.add(Either.<Integer, Integer>right(i).hashCode());
+            }
+
+            assertThat(hashes).hasSize(2000);
         }
     }
 
@@ -0,0 +1,138 @@
+package com.spencerwi.either;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("ErrorBudget with Java")
+public class ErrorBudgetTest {
+    private static Result<Integer> failEvery(int n, int i) {
+        return (i % n == 0) ? Result.err(new Exception("bad " + i)) : Result.ok(i);
+    }
+
+    @Test
+    public void passesEverythingThroughWhileWithinBudget() {
+        ErrorBudget.Tracker<Result<Integer>> tracker = ErrorBudget.maxFailures(10)
+                .trackResults(IntStream.range(1, 101).mapToObj(i -> failEvery(20, i)));
+
+        long oks = tracker.stream().filter(Result::isOk).count();
+
+        assertThat(oks).isEqualTo(95);
+        assertThat(tracker.isExhausted()).isFalse();
+        assertThat(tracker.getFailures()).isEqualTo(5);
+        assertThat(tracker.toResult()).isEqualTo(Result.ok(100L));
+    }
+
+    @Test
+    public void stopsConsumingOnceAbsoluteBudgetIsExceeded() {
+        AtomicLong pulled = new AtomicLong();
+        ErrorBudget.Tracker<Result<Integer>> tracker = ErrorBudget.maxFailures(2)
+                .trackResults(IntStream.range(1, 1_000_000).peek(i -> pulled.incrementAndGet()).mapToObj(i -> failEvery(10, i)));
+
+        List<Result<Integer>> seen = tracker.stream().collect(Collectors.toList());
+
+        assertThat(seen).hasSize(30);
+        assertThat(seen.get(29).isErr()).isTrue();
+        assertThat(pulled.get()).isEqualTo(30);
+        assertThat(tracker.isExhausted()).isTrue();
+        assertThat(tracker.getAttempted()).isEqualTo(30);
+        assertThat(tracker.getFailures()).isEqualTo(3);
+
+        Exception exceeded = tracker.toResult().getException();
+        assertThat(exceeded).isInstanceOf(ErrorBudgetExceededException.class);
+        assertThat(((ErrorBudgetExceededException) exceeded).getAttempted()).isEqualTo(30);
+        assertThat(((ErrorBudgetExceededException) exceeded).getFailures()).isEqualTo(3);
+    }
+
+    @Test
+    public void rateBudgetWaitsForMinimumAttempts() {
+        ErrorBudget.Tracker<Either<String, Integer>> tracker = ErrorBudget.maxFailureRate(0.1, 50).trackEithers(
+                IntStream.range(0, 1_000).mapToObj(i -> (i == 0 || i >= 500) ? Either.<String, Integer>left("bad") : Either.<String, Integer>right(i))
+        );
+
+        tracker.stream().forEach(either -> {});
+
+        // The first element fails, but the rate isn't enforced until 50 elements have been seen.
+        assertThat(tracker.isExhausted()).isTrue();
+        assertThat(tracker.getAttempted()).isGreaterThan(500).isLessThan(1_000);
+        assertThat(tracker.getFailures()).isGreaterThan((long) (0.1 * tracker.getAttempted()));
+    }
+
+    @Test
+    public void rateBudgetFiresOnReachingMinimumAttemptsWhenEarlyFailuresAreFollowedOnlyBySuccesses() {
+        ErrorBudget.Tracker<Result<Integer>> tracker = ErrorBudget.maxFailureRate(0.1, 10).trackResults(
+                IntStream.range(0, 100).mapToObj(i -> (i < 2) ? Result.<Integer>err(new Exception("bad " + i)) : Result.ok(i))
+        );
+
+        List<Result<Integer>> seen = tracker.stream().collect(Collectors.toList());
+
+        assertThat(seen).hasSize(10);
+        assertThat(tracker.isExhausted()).isTrue();
+        assertThat(tracker.getAttempted()).isEqualTo(10);
+        assertThat(tracker.getFailures()).isEqualTo(2);
+        assertThat(tracker.toResult().getException()).isInstanceOf(ErrorBudgetExceededException.class);
+    }
+
+    @Test
+    public void reportsARateOverTheLimitWhenTheStreamEndsExactlyAtMinimumAttempts() {
+        ErrorBudget.Tracker<Result<Integer>> tracker = ErrorBudget.maxFailureRate(0.1, 10).trackResults(
+                IntStream.range(0, 10).mapToObj(i -> (i < 2) ? Result.<Integer>err(new Exception("bad " + i)) : Result.ok(i))
+        );
+
+        tracker.stream().forEach(result -> { });
+
+        assertThat(tracker.toResult().isErr()).isTrue();
+        assertThat(tracker.isExhausted()).isTrue();
+    }
+
+    @Test
+    public void eitherLimitExhaustsACombinedBudget() {
+        ErrorBudget budget = ErrorBudget.maxFailureRate(0.5, 10).withMaxFailures(3);
+        ErrorBudget.Tracker<Result<Integer>> tracker = budget.trackResults(IntStream.range(1, 1_000).mapToObj(i -> failEvery(5, i)));
+
+        tracker.stream().forEach(result -> {});
+
+        assertThat(tracker.getFailures()).isEqualTo(4);
+        assertThat(tracker.getAttempted()).isEqualTo(20);
+    }
+
+    @Test
+    public void stopsEveryThreadOfAParallelStream() {
+        AtomicLong pulled = new AtomicLong();
+        ErrorBudget.Tracker<Result<Integer>> tracker = ErrorBudget.maxFailures(100).trackResults(
+                IntStream.range(0, 10_000_000).parallel().peek(i -> pulled.incrementAndGet()).mapToObj(i -> failEvery(2, i))
+        );
+
+        tracker.stream().forEach(result -> {});
+
+        assertThat(tracker.isExhausted()).isTrue();
+        assertThat(pulled.get()).isLessThan(1_000_000);
+    }
+
+    @Test
+    public void closingTheTrackedStreamClosesTheSource() {
+        AtomicLong closed = new AtomicLong();
+        ErrorBudget.Tracker<Result<Integer>> tracker = ErrorBudget.maxFailures(0)
+                .trackResults(Stream.of(Result.ok(1)).onClose(closed::incrementAndGet));
+
+        try (Stream<Result<Integer>> stream = tracker.stream()) {
+            assertThat(stream.count()).isEqualTo(1);
+        }
+        assertThat(closed.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void rejectsInvalidLimits() {
+        assertThatThrownBy(() -> ErrorBudget.maxFailures(-1)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ErrorBudget.maxFailureRate(1.5, 0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ErrorBudget.maxFailureRate(0.5, -1)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,212 @@
+package com.spencerwi.either;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("ErrorReporter with Java")
+public class ErrorReporterTest {
+    private static final class RecordingSink implements ErrorReporter.Sink {
+        final List<Exception> firsts = new CopyOnWriteArrayList<>();
+        final List<long[]> summaries = new CopyOnWriteArrayList<>();
+        final List<long[]> untrackedSummaries = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void first(ExceptionSignature signature, Exception exception) {
+            firsts.add(exception);
+        }
+
+        @Override
+        public void repeated(ExceptionSignature signature, long repeats, long total, Duration interval) {
+            summaries.add(new long[]{repeats, total});
+        }
+
+        @Override
+        public void untracked(long count, long total, Duration interval) {
+            untrackedSummaries.add(new long[]{count, total});
+        }
+    }
+
+    private static Exception failure(String message) {
+        return new IllegalStateException(message);
+    }
+
+    private static void reportFailures(ErrorReporter reporter, String message, int times) {
+        for (int i = 0; i < times; i++) {
+            // Reported from one line, so that every failure has the same signature.
+            reporter.report(failure(message));
+        }
+    }
+
+    @Test
+    public void reportsTheFirstOccurrenceInFullAndSummarizesRepeats() {
+        RecordingSink sink = new RecordingSink();
+        try (ErrorReporter reporter = ErrorReporter.start(Duration.ofHours(1), sink)) {
+            reportFailures(reporter, "backend down", 100);
+        }
+
+        assertThat(sink.firsts).hasSize(1);
+        assertThat(sink.firsts.get(0)).hasMessage("backend down");
+        assertThat(sink.summaries).hasSize(1);
+        assertThat(sink.summaries.get(0)).containsExactly(99, 100);
+    }
+
+    @Test
+    public void tracksDistinctSignaturesSeparately() {
+        RecordingSink sink = new RecordingSink();
+        try (ErrorReporter reporter = ErrorReporter.start(Duration.ofHours(1), sink)) {
+            reportFailures(reporter, "one", 1);
+            reportFailures(reporter, "two", 2);
+        }
+
+        assertThat(sink.firsts).extracting(Throwable::getMessage).containsExactlyInAnyOrder("one", "two");
+        assertThat(sink.summaries).hasSize(1);
+        assertThat(sink.summaries.get(0)).containsExactly(1, 2);
+    }
+
+    @Test
+    public void ignoresOksAndRights() {
+        RecordingSink sink = new RecordingSink();
+        try (ErrorReporter reporter = ErrorReporter.start(Duration.ofHours(1), sink)) {
+            assertThat(reporter.report(Result.ok(1))).isEqualTo(Result.ok(1));
+            reporter.report(Either.<Exception, Integer>right(2));
+            reporter.report(Result.err(failure("from a result")));
+            reporter.report(Either.<Exception, Integer>left(failure("from an either")));
+        }
+
+        assertThat(sink.firsts).extracting(Throwable::getMessage).containsExactlyInAnyOrder("from a result", "from an either");
+    }
+
+    @Test
+    public void summarizesPeriodicallyOnTheDrainThread() throws Exception {
+        RecordingSink sink = new RecordingSink();
+        try (ErrorReporter reporter = ErrorReporter.start(Duration.ofMillis(20), sink)) {
+            reportFailures(reporter, "flaky", 2);
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (sink.summaries.isEmpty() && System.nanoTime() < deadline) {
+                Thread.sleep(5);
+            }
+
+            assertThat(sink.summaries).hasSize(1);
+            assertThat(sink.summaries.get(0)).containsExactly(1, 2);
+            assertThat(sink.firsts).hasSize(1);
+        }
+    }
+
+    @Test
+    public void countsEveryFailureFromManyThreads() throws Exception {
+        RecordingSink sink = new RecordingSink();
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        try (ErrorReporter reporter = ErrorReporter.start(Duration.ofHours(1), sink)) {
+            for (int t = 0; t < 8; t++) {
+                pool.submit(() -> reportFailures(reporter, "storm", 1000));
+            }
+            pool.shutdown();
+            assertThat(pool.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+        }
+
+        assertThat(sink.firsts).hasSize(1);
+        assertThat(sink.summaries.get(0)).containsExactly(7999, 8000);
+    }
+
+    @Test
+    public void countsFailuresBeyondMaxSignaturesAsUntracked() {
+        RecordingSink sink = new RecordingSink();
+        ErrorReporter reporter = ErrorReporter.start(Duration.ofHours(1), sink, 1);
+        reporter.report(new IllegalStateException("tracked"));
+        reporter.report(new IllegalArgumentException("untracked"));
+        reporter.report(new UnsupportedOperationException("untracked"));
+        reporter.close();
+
+        assertThat(sink.firsts).extracting(Throwable::getMessage).containsExactly("tracked");
+        assertThat(reporter.untrackedCount()).isEqualTo(2);
+        assertThat(sink.untrackedSummaries).hasSize(1);
+        assertThat(sink.untrackedSummaries.get(0)).containsExactly(2, 2);
+    }
+
+    @Test
+    public void forgetsSignaturesThatStayQuietForAWholeInterval() throws Exception {
+        RecordingSink sink = new RecordingSink();
+        try (ErrorReporter reporter = ErrorReporter.start(Duration.ofMillis(20), sink, 1)) {
+            reportFailures(reporter, "order 1 failed", 1);
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (sink.firsts.size() < 2 && System.nanoTime() < deadline) {
+                reportFailures(reporter, "order 2 failed", 1);
+                Thread.sleep(5);
+            }
+
+            assertThat(sink.firsts).extracting(Throwable::getMessage).containsExactly("order 1 failed", "order 2 failed");
+        }
+    }
+
+    @Test
+    public void reportsNullExceptionsUnderTheirOwnSignature() {
+        RecordingSink sink = new RecordingSink();
+        try (ErrorReporter reporter = ErrorReporter.start(Duration.ofHours(1), sink)) {
+            reporter.report(Result.err(null));
+            reporter.report(Either.<Exception, Integer>left(null));
+            reporter.report(Result.err(failure("not null")));
+        }
+
+        assertThat(sink.firsts).containsOnlyOnce((Exception) null);
+        assertThat(sink.firsts).hasSize(2);
+        assertThat(sink.summaries).hasSize(1);
+        assertThat(sink.summaries.get(0)).containsExactly(1, 2);
+    }
+
+    @Test
+    public void ignoresReportsAfterClose() {
+        RecordingSink sink = new RecordingSink();
+        ErrorReporter reporter = ErrorReporter.start(Duration.ofHours(1), sink);
+        reporter.close();
+
+        reporter.report(failure("too late"));
+        reporter.close();
+
+        assertThat(sink.firsts).isEmpty();
+        assertThat(sink.summaries).isEmpty();
+    }
+
+    @Test
+    public void logToSinkWritesToTheLogger() {
+        Logger logger = Logger.getAnonymousLogger();
+        logger.setUseParentHandlers(false);
+        List<LogRecord> records = new CopyOnWriteArrayList<>();
+        logger.addHandler(new Handler() {
+            @Override public void publish(LogRecord record) { records.add(record); }
+            @Override public void flush() { }
+            @Override public void close() { }
+        });
+
+        try (ErrorReporter reporter = ErrorReporter.start(Duration.ofHours(1), ErrorReporter.Sink.logTo(logger))) {
+            reportFailures(reporter, "logged", 2);
+            reporter.report((Exception) null);
+        }
+
+        assertThat(records).extracting(LogRecord::getLevel).containsExactly(Level.SEVERE, Level.SEVERE, Level.WARNING);
+        assertThat(records.get(0).getThrown()).hasMessage("logged");
+        assertThat(records.get(1).getMessage()).isEqualTo("First occurrence of a null exception");
+        assertThat(records.get(2).getMessage()).startsWith("1 more in the last");
+    }
+
+    @Test
+    public void rejectsInvalidConfiguration() {
+        assertThatThrownBy(() -> ErrorReporter.start(Duration.ZERO, new RecordingSink()))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ErrorReporter.start(Duration.ofSeconds(1), new RecordingSink(), 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,99 @@
+package com.spencerwi.either;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("FailureSummary with Java")
+public class FailureSummaryTest {
+
+    private static Result<Integer> parse(int i){
+        return Result.attempt(() -> {
+            if (i % 10 == 0) {
+                throw new IllegalStateException("downstream unavailable");
+            }
+            if (i % 10 == 1) {
+                throw new NumberFormatException("bad record");
+            }
+            return i;
+        });
+    }
+
+    @Test
+    public void countsEverythingAndBucketsFailuresBySignature(){
+        FailureSummary<Exception, Long> summary = IntStream.range(0, 10_000)
+                .mapToObj(FailureSummaryTest::parse)
+                .collect(FailureSummary.ofResults(Collectors.counting()));
+
+        assertThat(summary.getSuccessCount()).isEqualTo(8_000);
+        assertThat(summary.getSuccesses()).isEqualTo(8_000L);
+        assertThat(summary.getFailureCount()).isEqualTo(2_000);
+        assertThat(summary.getBuckets()).hasSize(2);
+        assertThat(summary.getBuckets()).allSatisfy(bucket -> {
+            assertThat(bucket.getCount()).isEqualTo(1_000);
+            assertThat(bucket.getExamples()).hasSize(FailureSummary.DEFAULT_EXAMPLES_PER_BUCKET);
+            assertThat(bucket.getSignature()).isEqualTo(ExceptionSignature.of(bucket.getExamples().get(0)));
+        });
+    }
+
+    @Test
+    public void bucketsNullExceptionsUnderTheirOwnSignature(){
+        FailureSummary<Exception, Long> summary = IntStream.range(0, 20)
+                .mapToObj(i -> (i % 10 == 0) ? Result.<Integer>err(null) : parse(i))
+                .collect(FailureSummary.ofResults(Collectors.counting()));
+
+        assertThat(summary.getFailureCount()).isEqualTo(4);
+        assertThat(summary.getBuckets()).hasSize(2);
+        FailureSummary.Bucket<Exception> nulls = summary.getBuckets().stream()
+                .filter(bucket -> bucket.getSignature().equals(ExceptionSignature.of(null)))
+                .findFirst().get();
+        assertThat(nulls.getCount()).isEqualTo(2);
+        assertThat(nulls.getExamples()).containsOnlyNulls();
+        assertThat(nulls.getSignature().toString()).isEqualTo("null");
+    }
+
+    @Test
+    public void stopsBucketingNewSignaturesOnceFull(){
+        FailureSummary<String, Long> summary = IntStream.range(0, 100)
+                .mapToObj(i -> Either.<String, Integer>left("failure " + i))
+                .collect(FailureSummary.ofEithers(Function.identity(), Collectors.counting(), 10, 1));
+
+        assertThat(summary.getFailureCount()).isEqualTo(100);
+        assertThat(summary.getBuckets()).hasSize(10);
+        assertThat(summary.getUnbucketedFailureCount()).isEqualTo(90);
+    }
+
+    @Test
+    public void givesTheSameCountsForParallelStreams(){
+        FailureSummary<Exception, Long> summary = IntStream.range(0, 100_000)
+                .parallel()
+                .mapToObj(FailureSummaryTest::parse)
+                .collect(FailureSummary.ofResults(Collectors.counting()));
+
+        assertThat(summary.getSuccesses()).isEqualTo(80_000L);
+        assertThat(summary.getFailureCount()).isEqualTo(20_000);
+        assertThat(summary.getBuckets()).extracting(FailureSummary.Bucket::getCount).containsOnly(10_000L);
+        assertThat(summary.getBuckets()).allSatisfy(bucket ->
+                assertThat(bucket.getExamples()).hasSize(FailureSummary.DEFAULT_EXAMPLES_PER_BUCKET)
+        );
+    }
+
+    @Test
+    public void exceptionSignaturesIgnoreInstanceIdentity(){
+        Exception first = null;
+        Exception second = null;
+        for (int i = 0; i < 2; i++) {
+            Exception thrown = new IllegalStateException("same");
+            if (i == 0) { first = thrown; } else { second = thrown; }
+        }
+
+        assertThat(first).isNotEqualTo(second);
+        assertThat(ExceptionSignature.of(first)).isEqualTo(ExceptionSignature.of(second));
+        assertThat(ExceptionSignature.of(first)).isNotEqualTo(ExceptionSignature.of(new IllegalStateException("different")));
+    }
+}
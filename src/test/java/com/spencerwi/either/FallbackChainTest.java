@@ -0,0 +1,95 @@
+package com.spencerwi.either;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("FallbackChain with Java")
+public class FallbackChainTest {
+    private static final Executor INLINE = Runnable::run;
+
+    @Test
+    public void returnsTheFirstOkInOrder() {
+        FallbackChain<String> chain = FallbackChain.of(INLINE, Duration.ofHours(1),
+                () -> { throw new Exception("primary down"); },
+                () -> "secondary",
+                () -> "tertiary"
+        );
+
+        assertThat(chain.attempt()).isEqualTo(Result.ok("secondary"));
+        assertThat(chain.preferredIndex()).isEqualTo(1);
+    }
+
+    @Test
+    public void startsFromTheProviderThatLastWorked() {
+        AtomicInteger primaryCalls = new AtomicInteger();
+        FallbackChain<String> chain = FallbackChain.of(INLINE, Duration.ofHours(1),
+                () -> { primaryCalls.incrementAndGet(); throw new Exception("primary down"); },
+                () -> "secondary"
+        );
+
+        for (int i = 0; i < 10; i++) {
+            assertThat(chain.attempt()).isEqualTo(Result.ok("secondary"));
+        }
+
+        assertThat(primaryCalls.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void wrapsAroundToHigherPriorityProvidersWhenLowerOnesFail() {
+        AtomicBoolean primaryUp = new AtomicBoolean(false);
+        AtomicBoolean secondaryUp = new AtomicBoolean(true);
+        FallbackChain<String> chain = FallbackChain.of(INLINE, Duration.ofHours(1),
+                () -> { if (primaryUp.get()) return "primary"; throw new Exception("primary down"); },
+                () -> { if (secondaryUp.get()) return "secondary"; throw new Exception("secondary down"); }
+        );
+        chain.attempt();
+
+        primaryUp.set(true);
+        secondaryUp.set(false);
+
+        assertThat(chain.attempt()).isEqualTo(Result.ok("primary"));
+        assertThat(chain.preferredIndex()).isZero();
+    }
+
+    @Test
+    public void probesHigherPriorityProvidersOncePerInterval() {
+        AtomicBoolean primaryUp = new AtomicBoolean(false);
+        AtomicInteger primaryCalls = new AtomicInteger();
+        FallbackChain<String> chain = FallbackChain.of(INLINE, Duration.ZERO,
+                () -> { primaryCalls.incrementAndGet(); if (primaryUp.get()) return "primary"; throw new Exception("primary down"); },
+                () -> "secondary"
+        );
+        chain.attempt();
+        assertThat(chain.preferredIndex()).isEqualTo(1);
+
+        primaryUp.set(true);
+        // This attempt triggers a probe (run inline here), which finds the primary back up.
+        chain.attempt();
+
+        assertThat(chain.preferredIndex()).isZero();
+        assertThat(chain.attempt()).isEqualTo(Result.ok("primary"));
+    }
+
+    @Test
+    public void aggregatesEveryFailureWhenAllProvidersFail() {
+        Exception first = new Exception("first");
+        Exception second = new Exception("second");
+        FallbackChain<String> chain = FallbackChain.of(INLINE, Duration.ofHours(1),
+                () -> { throw first; },
+                () -> { throw second; }
+        );
+
+        Result<String> result = chain.attempt();
+
+        assertThat(result.getException()).isInstanceOf(AllAttemptsFailedException.class);
+        assertThat(((AllAttemptsFailedException) result.getException()).getFailures()).containsExactly(first, second);
+        assertThat(chain.preferredIndex()).isZero();
+    }
+}
@@ -0,0 +1,185 @@
+package com.spencerwi.either;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Hedge with Java")
+public class HedgeTest {
+    private ExecutorService executor;
+
+    @BeforeEach
+    public void startExecutor(){
+        executor = Executors.newCachedThreadPool();
+    }
+
+    @AfterEach
+    public void stopExecutor(){
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void race_ReturnsFirstSuccessfulAlternative(){
+        Result<String> result = Hedge.race().attempt(executor,
+                () -> { Thread.sleep(5_000); return "slow"; },
+                () -> "fast"
+        );
+
+        assertThat(result).isEqualTo(Result.ok("fast"));
+    }
+
+    @Test
+    public void race_SkipsFailuresInFavorOfLaterSuccesses(){
+        Result<String> result = Hedge.race().attempt(executor,
+                () -> { throw new Exception("down"); },
+                () -> { Thread.sleep(50); return "backup"; }
+        );
+
+        assertThat(result).isEqualTo(Result.ok("backup"));
+    }
+
+    @Test
+    public void race_CancelsLosers() throws InterruptedException {
+        CountDownLatch loserStarted = new CountDownLatch(1);
+        CountDownLatch loserInterrupted = new CountDownLatch(1);
+
+        Result<String> result = Hedge.race().attempt(executor,
+                () -> {
+                    loserStarted.countDown();
+                    try {
+                        Thread.sleep(5_000);
+                    } catch (InterruptedException e) {
+                        loserInterrupted.countDown();
+                        throw e;
+                    }
+                    return "slow";
+                },
+                () -> {
+                    loserStarted.await();
+                    return "fast";
+                }
+        );
+
+        assertThat(result.getResult()).isEqualTo("fast");
+        assertThat(loserInterrupted.await(1, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    public void whenEveryAlternativeFails_ReturnsAllFailures(){
+        Exception first = new Exception("first");
+        Exception second = new Exception("second");
+
+        Result<String> result = Hedge.race().attempt(executor,
+                () -> { throw first; },
+                () -> { Thread.sleep(20); throw second; }
+        );
+
+        assertThat(result.isErr()).isTrue();
+        assertThat(result.getException()).isInstanceOf(AllAttemptsFailedException.class);
+        assertThat(((AllAttemptsFailedException) result.getException()).getFailures()).containsExactly(first, second);
+        assertThat(result.getException().getSuppressed()).containsExactly(first, second);
+    }
+
+    @Test
+    public void hedge_DoesNotLaunchBackupWhenPrimaryAnswersInTime(){
+        AtomicInteger backupCalls = new AtomicInteger();
+
+        Result<String> result = Hedge.after(Duration.ofSeconds(5)).attempt(executor,
+                () -> "primary",
+                () -> { backupCalls.incrementAndGet(); return "backup"; }
+        );
+
+        assertThat(result).isEqualTo(Result.ok("primary"));
+        assertThat(backupCalls.get()).isZero();
+    }
+
+    @Test
+    public void hedge_LaunchesBackupAfterDelay(){
+        Result<String> result = Hedge.after(Duration.ofMillis(20)).attempt(executor,
+                () -> { Thread.sleep(5_000); return "primary"; },
+                () -> "backup"
+        );
+
+        assertThat(result).isEqualTo(Result.ok("backup"));
+    }
+
+    @Test
+    public void hedge_LaunchesBackupImmediatelyWhenPrimaryFails(){
+        long start = System.nanoTime();
+
+        Result<String> result = Hedge.after(Duration.ofSeconds(5)).attempt(executor,
+                () -> { throw new Exception("down"); },
+                () -> "backup"
+        );
+
+        assertThat(result).isEqualTo(Result.ok("backup"));
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(5));
+    }
+
+    @Test
+    public void percentileHedge_LearnsDelayFromObservedLatencies(){
+        Hedge hedge = Hedge.afterPercentile(0.9, Duration.ofSeconds(5));
+        assertThat(hedge.currentDelay()).isEqualTo(Duration.ofSeconds(5));
+
+        for (int i = 0; i < 32; i++) {
+            hedge.attempt(executor, () -> "quick");
+        }
+
+        assertThat(hedge.currentDelay()).isLessThan(Duration.ofSeconds(5));
+    }
+
+    @Test
+    public void percentileHedge_LearnsFromTheTimeToAnAnswerNotTheWinnersRunTime(){
+        Hedge hedge = Hedge.afterPercentile(0.5, Duration.ofMillis(20));
+
+        for (int i = 0; i < 20; i++) {
+            Result<String> result = hedge.attempt(executor,
+                    () -> { Thread.sleep(5_000); return "slow primary"; },
+                    () -> "instant backup"
+            );
+            assertThat(result).isEqualTo(Result.ok("instant backup"));
+        }
+
+        // Every answer took at least the initial delay, however quickly the backup itself ran.
+        assertThat(hedge.currentDelay()).isGreaterThanOrEqualTo(Duration.ofMillis(20));
+    }
+
+    @Test
+    public void whenTheExecutorRejectsThePrimary_ReturnsAttemptRejected(){
+        executor.shutdownNow();
+
+        Result<String> result = Hedge.race().attempt(executor, () -> "primary", () -> "backup");
+
+        assertThat(result.getException()).isInstanceOf(AttemptRejectedException.class);
+    }
+
+    @Test
+    public void whenTheExecutorRejectsABackup_WaitsForThePrimary(){
+        AtomicInteger accepted = new AtomicInteger();
+        Executor acceptsOnlyOne = task -> {
+            if (accepted.incrementAndGet() > 1) {
+                throw new RejectedExecutionException("full");
+            }
+            executor.execute(task);
+        };
+
+        Result<String> result = Hedge.after(Duration.ofMillis(5)).attempt(acceptsOnlyOne,
+                () -> { Thread.sleep(50); return "primary"; },
+                () -> "backup"
+        );
+
+        assertThat(result).isEqualTo(Result.ok("primary"));
+    }
+}
@@ -0,0 +1,138 @@
+package com.spencerwi.either;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("LockFreePool with Java")
+public class LockFreePoolTest {
+    private final AtomicInteger next = new AtomicInteger();
+    private final List<Integer> destroyed = new CopyOnWriteArrayList<>();
+
+    private LockFreePool<Integer> pool(int maxIdle) {
+        return LockFreePool.of(next::incrementAndGet, maxIdle, destroyed::add);
+    }
+
+    @Test
+    public void createsResourcesOnDemandAndReusesReleasedOnes() throws Exception {
+        LockFreePool<Integer> pool = pool(4);
+
+        Integer first = pool.borrow();
+        Integer second = pool.borrow();
+        pool.release(first);
+
+        assertThat(second).isNotEqualTo(first);
+        assertThat(pool.borrow()).isEqualTo(first);
+        assertThat(pool.createdCount()).isEqualTo(2);
+    }
+
+    @Test
+    public void handsOutTheMostRecentlyReleasedResourceFirst() throws Exception {
+        LockFreePool<Integer> pool = pool(4);
+        Integer first = pool.borrow();
+        Integer second = pool.borrow();
+
+        pool.release(first);
+        pool.release(second);
+
+        assertThat(pool.borrow()).isEqualTo(second);
+    }
+
+    @Test
+    public void destroysReleasedResourcesBeyondMaxIdle() throws Exception {
+        LockFreePool<Integer> pool = pool(1);
+        Integer first = pool.borrow();
+        Integer second = pool.borrow();
+
+        pool.release(first);
+        pool.release(second);
+
+        assertThat(pool.idleCount()).isEqualTo(1);
+        assertThat(destroyed).containsExactly(second);
+    }
+
+    @Test
+    public void destroysInvalidatedResources() throws Exception {
+        LockFreePool<Integer> pool = pool(4);
+        Integer resource = pool.borrow();
+
+        pool.invalidate(resource);
+
+        assertThat(destroyed).containsExactly(resource);
+        assertThat(pool.idleCount()).isZero();
+        assertThat(pool.borrow()).isNotEqualTo(resource);
+    }
+
+    @Test
+    public void ignoresExceptionsFromDestroy() throws Exception {
+        LockFreePool<Integer> pool = LockFreePool.of(next::incrementAndGet, 0, resource -> { throw new IllegalStateException("close failed"); });
+
+        pool.release(pool.borrow());
+
+        assertThat(pool.destroyedCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void closeDestroysIdleResourcesAndRejectsBorrowing() throws Exception {
+        LockFreePool<Integer> pool = pool(4);
+        Integer idle = pool.borrow();
+        Integer borrowed = pool.borrow();
+        pool.release(idle);
+
+        pool.close();
+        pool.release(borrowed);
+
+        assertThat(destroyed).containsExactly(idle, borrowed);
+        assertThatThrownBy(pool::borrow).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    public void releasesAfterCloseLeaveTheIdleCountAtZero() throws Exception {
+        LockFreePool<Integer> pool = pool(4);
+        Integer first = pool.borrow();
+        Integer second = pool.borrow();
+        pool.close();
+
+        pool.release(first);
+        pool.release(second);
+
+        assertThat(pool.idleCount()).isZero();
+        assertThat(pool.destroyedCount()).isEqualTo(2);
+    }
+
+    @Test
+    public void neverHandsTheSameResourceToTwoBorrowersAtOnce() throws Exception {
+        LockFreePool<Integer> pool = pool(8);
+        Set<Integer> inUse = ConcurrentHashMap.newKeySet();
+        AtomicInteger collisions = new AtomicInteger();
+        ExecutorService threads = Executors.newFixedThreadPool(8);
+        for (int t = 0; t < 8; t++) {
+            threads.submit(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    Integer resource = pool.borrow();
+                    if (!inUse.add(resource)) collisions.incrementAndGet();
+                    inUse.remove(resource);
+                    pool.release(resource);
+                }
+                return null;
+            });
+        }
+        threads.shutdown();
+        assertThat(threads.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(collisions.get()).isZero();
+        assertThat(pool.idleCount()).isLessThanOrEqualTo(8);
+        assertThat(pool.createdCount() - pool.destroyedCount()).isEqualTo(pool.idleCount());
+    }
+}
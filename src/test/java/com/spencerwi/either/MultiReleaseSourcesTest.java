@@ -0,0 +1,52 @@
+package com.spencerwi.either;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The sealed JDK 17 variants in src/main/java17 are hand-kept copies of the
+ *  Java 8 classes, and tests only ever load the Java 8 ones, so check that
+ *  the copies differ only in being sealed.
+ */
+@DisplayName("Multi-release sources with Java")
+public class MultiReleaseSourcesTest {
+    private static final Path JAVA8_SOURCES = Paths.get("src", "main", "java", "com", "spencerwi", "either");
+    private static final Path JAVA17_SOURCES = Paths.get("src", "main", "java17", "com", "spencerwi", "either");
+
+    @ParameterizedTest
+    @ValueSource(strings = {"Either", "Result", "Outcome"})
+    public void java17VariantDiffersOnlyInBeingSealed(String className) throws IOException {
+        List<String> java8 = Files.readAllLines(JAVA8_SOURCES.resolve(className + ".java"), StandardCharsets.UTF_8);
+        List<String> java17 = Files.readAllLines(JAVA17_SOURCES.resolve(className + ".java"), StandardCharsets.UTF_8);
+
+        assertThat(java17).anySatisfy(line -> assertThat(line).startsWith("public abstract sealed class " + className + "<"));
+        assertThat(unsealed(java17)).containsExactlyElementsOf(java8);
+    }
+
+    private static List<String> unsealed(List<String> java17) {
+        return java17.stream()
+                // The header comment pointing back at the Java 8 source, and the blank line after it.
+                .filter(line -> !line.startsWith("// JDK 17+ variant of") && !line.startsWith("//  META-INF/versions/17"))
+                .map(line -> line.replace("public abstract sealed class ", "public abstract class "))
+                .collect(Collectors.collectingAndThen(Collectors.toList(), MultiReleaseSourcesTest::dropHeaderGap));
+    }
+
+    private static List<String> dropHeaderGap(List<String> lines) {
+        // After removing the header comment, "package ...;" is followed by two blank lines instead of one.
+        if (lines.size() > 2 && lines.get(1).isEmpty() && lines.get(2).isEmpty()) {
+            lines.remove(2);
+        }
+        return lines;
+    }
+}
@@ -0,0 +1,160 @@
+package com.spencerwi.either;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("OutcomeJournal with Java")
+public class OutcomeJournalTest {
+    @TempDir
+    Path tempDir;
+
+    private OutcomeJournal<String, String> open(Path file) throws IOException {
+        return OutcomeJournal.open(file, ElementCodec.strings(), ElementCodec.strings());
+    }
+
+    @Test
+    public void replaysLatestOutcomePerKeyAfterReopening() throws IOException {
+        Path file = tempDir.resolve("job.journal");
+        try (OutcomeJournal<String, String> journal = open(file)) {
+            journal.record("a", Result.ok("A"));
+            journal.record("b", Result.err(new IllegalStateException("boom")));
+            journal.record("c", Result.err(new IllegalStateException("first try")));
+            journal.record("c", Result.ok("C"));
+            journal.record("d", Either.left(42));
+        }
+
+        try (OutcomeJournal<String, String> journal = open(file)) {
+            assertThat(journal.size()).isEqualTo(4);
+            assertThat(journal.get("a")).contains(Result.ok("A"));
+            assertThat(journal.get("c")).contains(Result.ok("C"));
+            assertThat(journal.replay().keySet()).containsExactly("a", "b", "c", "d");
+
+            Exception b = journal.get("b").get().getException();
+            assertThat(b).isInstanceOf(JournaledFailureException.class).hasMessage("boom");
+            assertThat(((JournaledFailureException) b).getOriginalClassName()).isEqualTo(IllegalStateException.class.getName());
+            Exception d = journal.get("d").get().getException();
+            assertThat(((JournaledFailureException) d).getOriginalClassName()).isEqualTo(Integer.class.getName());
+            assertThat(d).hasMessage("42");
+        }
+    }
+
+    @Test
+    public void attemptSkipsKeysThatAlreadySucceeded() throws IOException {
+        Path file = tempDir.resolve("job.journal");
+        AtomicInteger calls = new AtomicInteger();
+        try (OutcomeJournal<String, String> journal = open(file)) {
+            journal.attempt("ok", key -> { calls.incrementAndGet(); return key.toUpperCase(); });
+            journal.attempt("flaky", key -> { calls.incrementAndGet(); throw new Exception("down"); });
+        }
+
+        try (OutcomeJournal<String, String> journal = open(file)) {
+            assertThat(journal.remaining(Arrays.asList("ok", "flaky", "new"))).containsExactly("flaky", "new");
+
+            assertThat(journal.attempt("ok", key -> { calls.incrementAndGet(); return "rerun"; })).isEqualTo(Result.ok("OK"));
+            assertThat(journal.attempt("flaky", key -> { calls.incrementAndGet(); return "recovered"; })).isEqualTo(Result.ok("recovered"));
+            assertThat(calls.get()).isEqualTo(3);
+            assertThat(journal.isDone("flaky")).isTrue();
+        }
+    }
+
+    @Test
+    public void discardsTornRecordAtTheEnd() throws IOException {
+        Path file = tempDir.resolve("job.journal");
+        try (OutcomeJournal<String, String> journal = open(file)) {
+            journal.record("a", Result.ok("A"));
+            journal.record("b", Result.ok("B"));
+        }
+        long intactLength = Files.size(file);
+        try (RandomAccessFile raw = new RandomAccessFile(file.toFile(), "rw")) {
+            // Flip a byte inside the last record's payload.
+            raw.seek(intactLength - 1);
+            int lastByte = raw.read();
+            raw.seek(intactLength - 1);
+            raw.write(lastByte ^ 0xFF);
+        }
+
+        try (OutcomeJournal<String, String> journal = open(file)) {
+            assertThat(journal.replay().keySet()).containsExactly("a");
+            journal.record("c", Result.ok("C"));
+        }
+        try (OutcomeJournal<String, String> journal = open(file)) {
+            assertThat(journal.replay().keySet()).containsExactly("a", "c");
+        }
+    }
+
+    @Test
+    public void compactsOnceMostRecordsAreSuperseded() throws IOException {
+        Path file = tempDir.resolve("job.journal");
+        try (OutcomeJournal<String, String> journal = OutcomeJournal.open(file, ElementCodec.strings(), ElementCodec.strings(), 1)) {
+            for (int i = 0; i < OutcomeJournal.MIN_COMPACTION_RECORDS * 2; i++) {
+                journal.record("key" + (i % 10), Result.ok("value" + i));
+            }
+            assertThat(journal.recordCount()).isLessThan(OutcomeJournal.MIN_COMPACTION_RECORDS * 2L);
+            journal.record("key0", Result.ok("last"));
+        }
+
+        try (OutcomeJournal<String, String> journal = open(file)) {
+            assertThat(journal.size()).isEqualTo(10);
+            assertThat(journal.get("key0")).contains(Result.ok("last"));
+            journal.compact();
+            assertThat(journal.recordCount()).isEqualTo(10);
+        }
+        assertThat(Files.exists(tempDir.resolve("job.journal.compacting"))).isFalse();
+    }
+
+    @Test
+    public void closeTrimsPreallocatedSpace() throws IOException {
+        Path file = tempDir.resolve("job.journal");
+        try (OutcomeJournal<String, String> journal = open(file)) {
+            journal.record("a", Result.ok("A"));
+        }
+
+        assertThat(Files.size(file)).isLessThan(100);
+    }
+
+    @Test
+    public void journalsAnErrHoldingNull() throws IOException {
+        Path file = tempDir.resolve("job.journal");
+        try (OutcomeJournal<String, String> journal = open(file)) {
+            journal.record("a", Result.err(null));
+        }
+
+        try (OutcomeJournal<String, String> journal = open(file)) {
+            Exception a = journal.get("a").get().getException();
+            assertThat(((JournaledFailureException) a).getOriginalClassName()).isEqualTo("null");
+            assertThat(journal.isDone("a")).isFalse();
+        }
+    }
+
+    @Test
+    public void treatsAZeroedTailAsTheEndOfTheLog() throws IOException {
+        // What close() leaves behind where the file cannot be truncated while mapped.
+        Path file = tempDir.resolve("job.journal");
+        try (OutcomeJournal<String, String> journal = open(file)) {
+            journal.record("a", Result.ok("A"));
+        }
+        long length = Files.size(file);
+        try (RandomAccessFile raw = new RandomAccessFile(file.toFile(), "rw")) {
+            raw.setLength(length + 4096);
+        }
+
+        try (OutcomeJournal<String, String> journal = open(file)) {
+            assertThat(journal.get("a")).contains(Result.ok("A"));
+            journal.record("b", Result.ok("B"));
+        }
+
+        try (OutcomeJournal<String, String> journal = open(file)) {
+            assertThat(journal.replay().keySet()).containsExactly("a", "b");
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package com.spencerwi.either;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Outcome with Java")
+public class OutcomeTest {
+
+    enum Rejection { TOO_SHORT, PARSE_FAILED }
+
+    @Test
+    public void attempt_WhenSupplierIsSuccessful_WrapsResult(){
+        Outcome<Rejection, Integer> successful = Outcome.attempt(() -> 1 + 1, e -> Rejection.PARSE_FAILED);
+
+        assertThat(successful).isInstanceOf(Outcome.Ok.class);
+        assertThat(successful.getResult()).isEqualTo(2);
+    }
+
+    @Test
+    public void attempt_WhenSupplierThrows_MapsExceptionToError(){
+        Outcome<Rejection, Integer> failed = Outcome.attempt(() -> Integer.parseInt("nope"), e -> Rejection.PARSE_FAILED);
+
+        assertThat(failed).isInstanceOf(Outcome.Err.class);
+        assertThat(failed.getError()).isEqualTo(Rejection.PARSE_FAILED);
+    }
+
+    @Test
+    public void lift_MapsThrownExceptionsToErrors(){
+        Function<String, Outcome<String, Integer>> parse = Outcome.lift(Integer::parseInt, e -> e.getClass().getSimpleName());
+
+        assertThat(parse.apply("42")).isEqualTo(Outcome.ok(42));
+        assertThat(parse.apply("nope")).isEqualTo(Outcome.err("NumberFormatException"));
+    }
+
+    @Test
+    public void convertsToAndFromEither(){
+        Either<Rejection, Integer> left = Either.left(Rejection.TOO_SHORT);
+        Either<Rejection, Integer> right = Either.right(42);
+
+        assertThat(Outcome.fromEither(left)).isEqualTo(Outcome.err(Rejection.TOO_SHORT));
+        assertThat(Outcome.fromEither(right)).isEqualTo(Outcome.ok(42));
+        assertThat(Outcome.fromEither(left).toEither()).isEqualTo(left);
+        assertThat(Outcome.fromEither(right).toEither()).isEqualTo(right);
+    }
+
+    @Test
+    public void convertsToAndFromResult(){
+        Exception ex = new Exception("Error! Failed!");
+
+        assertThat(Outcome.fromResult(Result.<Integer>err(ex))).isEqualTo(Outcome.err(ex));
+        assertThat(Outcome.fromResult(Result.ok(42))).isEqualTo(Outcome.ok(42));
+
+        Result<Integer> asResult = Outcome.<Rejection, Integer>err(Rejection.TOO_SHORT)
+                .toResult(rejection -> new IllegalArgumentException(rejection.name()));
+        assertThat(asResult.getException())
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("TOO_SHORT");
+        assertThat(Outcome.<Rejection, Integer>ok(42).toResult(rejection -> new Exception())).isEqualTo(Result.ok(42));
+    }
+
+    @Nested
+    @DisplayName("Outcome.Err")
+    public class OutcomeErrTest {
+        @Test
+        public void returnsErrorWhenAsked(){
+            Outcome<Rejection, Integer> err = Outcome.err(Rejection.TOO_SHORT);
+
+            assertThat(err.isErr()).isTrue();
+            assertThat(err.isOk()).isFalse();
+            assertThat(err.getError()).isEqualTo(Rejection.TOO_SHORT);
+        }
+
+        @Test
+        public void throwsWhenAskedForResult(){
+            Outcome<Rejection, Integer> err = Outcome.err(Rejection.TOO_SHORT);
+
+            assertThatThrownBy(err::getResult)
+                    .isInstanceOf(NoSuchElementException.class)
+                    .hasMessageContaining("Tried to getResult from an Err");
+        }
+
+        @Test
+        public void doesNotRunValueTransformations(){
+            Outcome<Rejection, Integer> err = Outcome.err(Rejection.TOO_SHORT);
+
+            assertThat(err.map(x -> x * 2)).isEqualTo(err);
+            assertThat(err.flatMap(x -> Outcome.ok(x * 2))).isEqualTo(err);
+            assertThat(err.getOrElse(0)).isEqualTo(0);
+            assertThat(err.getOrElse(() -> 1)).isEqualTo(1);
+            assertThat(err.toOptional()).isEmpty();
+        }
+
+        @Test
+        public void runsErrorTransformations(){
+            Outcome<Rejection, Integer> err = Outcome.err(Rejection.TOO_SHORT);
+
+            assertThat(err.mapErr(Rejection::name)).isEqualTo(Outcome.err("TOO_SHORT"));
+            assertThat(err.recover(rejection -> Outcome.ok(0))).isEqualTo(Outcome.ok(0));
+            assertThat(err.fold(Rejection::name, Object::toString)).isEqualTo("TOO_SHORT");
+        }
+
+        @Test
+        public void throwsTransformedError_whenGetOrElseThrow(){
+            Outcome<Rejection, Integer> err = Outcome.err(Rejection.TOO_SHORT);
+
+            assertThatThrownBy(() -> err.getOrElseThrow(rejection -> new IllegalStateException(rejection.name())))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessage("TOO_SHORT");
+        }
+    }
+
+    @Nested
+    @DisplayName("Outcome.Ok")
+    public class OutcomeOkTest {
+        @Test
+        public void returnsResultWhenAsked(){
+            Outcome<Rejection, Integer> ok = Outcome.ok(42);
+
+            assertThat(ok.isOk()).isTrue();
+            assertThat(ok.isErr()).isFalse();
+            assertThat(ok.getResult()).isEqualTo(42);
+        }
+
+        @Test
+        public void throwsWhenAskedForError(){
+            Outcome<Rejection, Integer> ok = Outcome.ok(42);
+
+            assertThatThrownBy(ok::getError)
+                    .isInstanceOf(NoSuchElementException.class)
+                    .hasMessageContaining("Tried to getError from an Ok");
+        }
+
+        @Test
+        public void runsValueTransformations(){
+            Outcome<Rejection, Integer> ok = Outcome.ok(42);
+
+            assertThat(ok.map(x -> x * 2)).isEqualTo(Outcome.ok(84));
+            assertThat(ok.flatMap(x -> Outcome.<Rejection, Integer>err(Rejection.TOO_SHORT))).isEqualTo(Outcome.err(Rejection.TOO_SHORT));
+            assertThat(ok.mapErr(Rejection::name)).isEqualTo(Outcome.ok(42));
+            assertThat(ok.recover(rejection -> Outcome.ok(0))).isEqualTo(ok);
+            assertThat(ok.getOrElse(0)).isEqualTo(42);
+            assertThat(ok.toOptional()).contains(42);
+        }
+
+        @Test
+        public void isNotEqualToAnErrWrappingTheSameValue(){
+            assertThat(Outcome.ok("hello")).isNotEqualTo(Outcome.err("hello"));
+        }
+    }
+}
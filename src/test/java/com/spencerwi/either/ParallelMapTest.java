@@ -0,0 +1,126 @@
+package com.spencerwi.either;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("ParallelMap with Java")
+public class ParallelMapTest {
+    private ExecutorService executor;
+
+    @BeforeEach
+    public void startExecutor(){
+        executor = Executors.newFixedThreadPool(8);
+    }
+
+    @AfterEach
+    public void stopExecutor(){
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void emitsOutcomesInInputOrder() {
+        List<Result<Integer>> outcomes = ParallelMap.ordered(IntStream.range(0, 200).boxed(), 8, executor, (Integer i) -> {
+            Thread.sleep(ThreadLocalRandom.current().nextInt(3));
+            return i * 2;
+        }).collect(Collectors.toList());
+
+        assertThat(outcomes).hasSize(200);
+        for (int i = 0; i < 200; i++) {
+            assertThat(outcomes.get(i)).isEqualTo(Result.ok(i * 2));
+        }
+    }
+
+    @Test
+    public void failuresBecomeErrsInPlace() {
+        List<Result<Integer>> outcomes = ParallelMap.ordered(Stream.of(1, 0, 2), 2, executor, (Integer i) -> 10 / i)
+                .collect(Collectors.toList());
+
+        assertThat(outcomes.get(0)).isEqualTo(Result.ok(10));
+        assertThat(outcomes.get(1).getException()).isInstanceOf(ArithmeticException.class);
+        assertThat(outcomes.get(2)).isEqualTo(Result.ok(5));
+    }
+
+    @Test
+    public void neverHasMoreThanMaxInFlightCallsRunning() {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+
+        long count = ParallelMap.ordered(IntStream.range(0, 100).boxed(), 3, executor, (Integer i) -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            Thread.sleep(1);
+            running.decrementAndGet();
+            return i;
+        }).count();
+
+        assertThat(count).isEqualTo(100);
+        assertThat(maxRunning.get()).isLessThanOrEqualTo(3);
+    }
+
+    @Test
+    public void pullsFromTheSourceOnlyAsOutputIsConsumed() {
+        AtomicInteger pulled = new AtomicInteger();
+        Iterator<Integer> unbounded = new Iterator<Integer>() {
+            @Override public boolean hasNext() { return true; }
+            @Override public Integer next() { return pulled.incrementAndGet(); }
+        };
+
+        Iterator<Result<Integer>> outcomes = ParallelMap.ordered(unbounded, 4, executor, (Integer i) -> i);
+        assertThat(pulled.get()).isZero();
+
+        for (int i = 1; i <= 10; i++) {
+            assertThat(outcomes.next()).isEqualTo(Result.ok(i));
+        }
+        assertThat(pulled.get()).isLessThanOrEqualTo(10 + 4);
+    }
+
+    @Test
+    public void rejectedCallsBecomeErrs() {
+        executor.shutdownNow();
+
+        List<Result<Integer>> outcomes = ParallelMap.ordered(Stream.of(1, 2), 2, executor, (Integer i) -> i)
+                .collect(Collectors.toList());
+
+        assertThat(outcomes).allSatisfy(outcome -> assertThat(outcome.getException()).isInstanceOf(AttemptRejectedException.class));
+    }
+
+    @Test
+    public void rethrowsErrors() {
+        Stream<Result<Integer>> outcomes = ParallelMap.ordered(Stream.of(1), 1, executor, (Integer i) -> { throw new AssertionError("boom"); });
+
+        assertThatThrownBy(() -> outcomes.collect(Collectors.toList())).isInstanceOf(AssertionError.class).hasMessage("boom");
+    }
+
+    @Test
+    public void closingTheOutputClosesTheSource() {
+        AtomicBoolean sourceClosed = new AtomicBoolean(false);
+        Stream<Integer> source = IntStream.range(0, 1_000).boxed().onClose(() -> sourceClosed.set(true));
+
+        try (Stream<Result<Integer>> outcomes = ParallelMap.ordered(source, 4, executor, (Integer i) -> i)) {
+            assertThat(outcomes.limit(5).count()).isEqualTo(5);
+        }
+
+        assertThat(sourceClosed.get()).isTrue();
+    }
+
+    @Test
+    public void rejectsInvalidMaxInFlight() {
+        assertThatThrownBy(() -> ParallelMap.ordered(Stream.of(1), 0, executor, (Integer i) -> i))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
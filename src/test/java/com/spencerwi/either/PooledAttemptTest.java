@@ -0,0 +1,116 @@
+package com.spencerwi.either;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.SocketException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("PooledAttempt with Java")
+public class PooledAttemptTest {
+    private static class RecordingPool implements ResourcePool<String> {
+        final AtomicInteger next = new AtomicInteger();
+        final List<String> released = new ArrayList<>();
+        final List<String> invalidated = new ArrayList<>();
+
+        @Override
+        public String borrow() {
+            return "resource-" + next.incrementAndGet();
+        }
+
+        @Override
+        public void release(String resource) {
+            released.add(resource);
+        }
+
+        @Override
+        public void invalidate(String resource) {
+            invalidated.add(resource);
+        }
+    }
+
+    @Test
+    public void releasesTheResourceOnOk() {
+        RecordingPool pool = new RecordingPool();
+
+        Result<Integer> result = PooledAttempt.from(pool).attempt(String::length);
+
+        assertThat(result).isEqualTo(Result.ok(10));
+        assertThat(pool.released).containsExactly("resource-1");
+        assertThat(pool.invalidated).isEmpty();
+    }
+
+    @Test
+    public void invalidatesOnAnyExceptionByDefault() {
+        RecordingPool pool = new RecordingPool();
+
+        Result<Integer> result = PooledAttempt.from(pool).attempt(resource -> { throw new IllegalStateException("bad"); });
+
+        assertThat(result.getException()).hasMessage("bad");
+        assertThat(pool.invalidated).containsExactly("resource-1");
+        assertThat(pool.released).isEmpty();
+    }
+
+    @Test
+    public void invalidatesOnlyOnConfiguredExceptionTypes() {
+        RecordingPool pool = new RecordingPool();
+        PooledAttempt<String> attempt = PooledAttempt.from(pool).invalidatingOn(IOException.class);
+
+        attempt.attempt(resource -> { throw new SocketException("connection reset"); });
+        attempt.attempt(resource -> { throw new IllegalArgumentException("bad input"); });
+
+        assertThat(pool.invalidated).containsExactly("resource-1");
+        assertThat(pool.released).containsExactly("resource-2");
+    }
+
+    @Test
+    public void invalidatesAndRethrowsOnError() {
+        RecordingPool pool = new RecordingPool();
+
+        assertThatThrownBy(() -> PooledAttempt.from(pool).invalidatingOn(IOException.class)
+                .attempt(resource -> { throw new StackOverflowError(); }))
+                .isInstanceOf(StackOverflowError.class);
+
+        assertThat(pool.invalidated).containsExactly("resource-1");
+    }
+
+    @Test
+    public void returnsErrWhenBorrowingFails() {
+        ResourcePool<String> pool = new RecordingPool() {
+            @Override
+            public String borrow() {
+                throw new IllegalStateException("pool exhausted");
+            }
+        };
+        AtomicInteger calls = new AtomicInteger();
+
+        Result<Integer> result = PooledAttempt.from(pool).attempt(resource -> calls.incrementAndGet());
+
+        assertThat(result.getException()).hasMessage("pool exhausted");
+        assertThat(calls.get()).isZero();
+    }
+
+    @Test
+    public void reusesResourcesFromALockFreePool() {
+        LockFreePool<StringBuilder> pool = LockFreePool.of(StringBuilder::new, 2);
+        PooledAttempt<StringBuilder> withBuilder = PooledAttempt.from(pool);
+
+        for (int i = 0; i < 10; i++) {
+            int n = i;
+            Result<String> result = withBuilder.attempt(builder -> {
+                builder.setLength(0);
+                return builder.append(n).toString();
+            });
+            assertThat(result).isEqualTo(Result.ok(String.valueOf(n)));
+        }
+
+        assertThat(pool.createdCount()).isEqualTo(1);
+        assertThat(pool.idleCount()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,96 @@
+package com.spencerwi.either;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("RecordReader with Java")
+public class RecordReaderTest {
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void tagsEachRecordWithLineNumberAndOffset() throws IOException {
+        Path file = tempDir.resolve("records.txt");
+        Files.write(file, "1\r\nnope\n333\n\n55555".getBytes(StandardCharsets.UTF_8));
+
+        List<PositionedResult<Integer>> results;
+        try (Stream<PositionedResult<Integer>> records = RecordReader.parse(file, Integer::parseInt)) {
+            results = records.collect(Collectors.toList());
+        }
+
+        assertThat(results).extracting(PositionedResult::getLineNumber).containsExactly(1L, 2L, 3L, 4L, 5L);
+        assertThat(results).extracting(PositionedResult::getOffset).containsExactly(0L, 3L, 8L, 12L, 13L);
+        assertThat(results.get(0).getResult()).isEqualTo(Result.ok(1));
+        assertThat(results.get(1).getResult().getException()).isInstanceOf(NumberFormatException.class);
+        assertThat(results.get(2).getResult()).isEqualTo(Result.ok(333));
+        assertThat(results.get(3).getResult().isErr()).isTrue();
+        assertThat(results.get(4).getResult()).isEqualTo(Result.ok(55555));
+    }
+
+    @Test
+    public void doesNotProduceARecordAfterATrailingNewline() throws IOException {
+        Path file = tempDir.resolve("trailing.txt");
+        Files.write(file, "a\nb\n".getBytes(StandardCharsets.UTF_8));
+
+        try (Stream<PositionedResult<String>> records = RecordReader.parse(file, line -> line)) {
+            assertThat(records.map(record -> record.getResult().getResult())).containsExactly("a", "b");
+        }
+    }
+
+    @Test
+    public void keepsLineNumbersExactWhenParsedInParallel() throws IOException {
+        Path file = tempDir.resolve("large.txt");
+        int lineCount = 1_000_000;
+        Files.write(file, IntStream.rangeClosed(1, lineCount).mapToObj(Integer::toString).collect(Collectors.toList()));
+        assertThat(Files.size(file)).isGreaterThan(4 * RecordReader.MIN_SPLIT_BYTES);
+
+        try (Stream<PositionedResult<Integer>> records = RecordReader.parse(file, Integer::parseInt)) {
+            List<PositionedResult<Integer>> results = records.parallel().collect(Collectors.toList());
+
+            assertThat(results).hasSize(lineCount);
+            assertThat(results).allSatisfy(record ->
+                    assertThat(record.getResult().getResult()).isEqualTo((int) record.getLineNumber())
+            );
+        }
+    }
+
+    @Test
+    public void numbersASplitPartCorrectlyEvenIfItIsTraversedBeforeThePartsBeforeIt() throws IOException {
+        Path file = tempDir.resolve("uneven.txt");
+        int lineCount = 600_000;
+        // Lines of varying length, so that the split point does not fall on a predictable line.
+        Files.write(file, IntStream.rangeClosed(1, lineCount).mapToObj(i -> i + "," + (i % 7 == 0 ? "padding-padding" : "")).collect(Collectors.toList()));
+
+        try (Stream<PositionedResult<Integer>> records = RecordReader.parse(file, line -> Integer.parseInt(line.substring(0, line.indexOf(','))))) {
+            Spliterator<PositionedResult<Integer>> suffix = records.spliterator();
+            Spliterator<PositionedResult<Integer>> prefix = suffix.trySplit();
+            assertThat(prefix).isNotNull();
+            Spliterator<PositionedResult<Integer>> middle = suffix.trySplit();
+            assertThat(middle).isNotNull();
+
+            List<PositionedResult<Integer>> results = new ArrayList<>();
+            suffix.forEachRemaining(results::add);
+            middle.forEachRemaining(results::add);
+            prefix.forEachRemaining(results::add);
+
+            assertThat(results).hasSize(lineCount);
+            assertThat(results).allSatisfy(record ->
+                    assertThat(record.getResult().getResult()).isEqualTo((int) record.getLineNumber())
+            );
+        }
+    }
+}
@@ -172,10 +172,19 @@ public class ResultTest {
             assertThat(errIsHello).isNotEqualTo(hello);
         }
         @Test
-        public void hasSameHashCodeAsWrappedException(){
-            Result<Integer> errOnly = Result.err(new Exception("Test"));
+        public void hasSameHashCodeAsEqualErr(){
+            Exception ex = new Exception("Test");
+            Result<Integer> errOnly = Result.err(ex);
+
+            assertThat(errOnly.hashCode()).isEqualTo(Result.err(ex).hashCode());
+        }
+        @Test
+        public void isNullSafeForHashCodeAndEquals(){
+            Result<Integer> errNull = Result.err(null);
 
-            assertThat(errOnly.hashCode()).isEqualTo(errOnly.getException().hashCode());
+            assertThat(errNull.hashCode()).isEqualTo(Result.err(null).hashCode());
+            assertThat(errNull).isEqualTo(Result.err(null));
+            assertThat(errNull).isNotEqualTo(Result.ok(null));
         }
     }
 
@@ -311,10 +320,25 @@ public class ResultTest {
             assertThat(resultIs42).isNotEqualTo(fortyTwo);
         }
         @Test
-        public void hasSameHashCodeAsWrappedRightValue(){
+        public void hasSameHashCodeAsEqualOk(){
             Result<Integer> resultOnly = Result.ok(42);
 
-            assertThat(resultOnly.hashCode()).isEqualTo(resultOnly.getResult().hashCode());
+            assertThat(resultOnly.hashCode()).isEqualTo(Result.ok(42).hashCode());
+        }
+        @Test
+        public void hasDifferentHashCodeFromErrWithSameValue(){
+            Exception ex = new Exception("Test");
+
+            assertThat(Result.ok(ex).hashCode()).isNotEqualTo(Result.err(ex).hashCode());
+        }
+        @Test
+        public void isNullSafeForHashCodeAndEquals(){
+            Result<Integer> okNull = Result.ok(null);
+
+            assertThat(okNull.hashCode()).isEqualTo(Result.ok(null).hashCode());
+            assertThat(okNull).isEqualTo(Result.ok(null));
+            assertThat(okNull).isNotEqualTo(Result.ok(42));
+            assertThat(Result.ok(42)).isNotEqualTo(okNull);
         }
         @Test
         public void mapToErr() {
@@ -0,0 +1,139 @@
+package com.spencerwi.either;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("EitherCollectors spilling with Java")
+public class SpillingEitherCollectorTest {
+    private static final ElementCodec<Integer> INTS = new ElementCodec<Integer>() {
+        @Override
+        public void write(Integer value, DataOutput out) throws IOException { out.writeInt(value); }
+        @Override
+        public Integer read(DataInput in) throws IOException { return in.readInt(); }
+    };
+
+    @TempDir
+    Path tempDir;
+
+    private static Either<String, Integer> evensRight(int i) {
+        return (i % 2 == 0) ? Either.right(i) : Either.left("odd " + i);
+    }
+
+    @Test
+    public void staysInMemoryUnderThreshold() {
+        Either<SpilledSequence<String>, SpilledSequence<Integer>> result = Stream.of(Either.<String, Integer>right(1), Either.<String, Integer>right(2))
+                .collect(EitherCollectors.<String, Integer>toRightBiasedSpilling(10, ElementCodec.strings(), INTS, tempDir));
+
+        try (SpilledSequence<Integer> rights = result.getRight()) {
+            assertThat(rights.isSpilled()).isFalse();
+            assertThat(rights).containsExactly(1, 2);
+        }
+    }
+
+    @Test
+    public void spillsToDiskAndReadsBackInOrder() throws IOException {
+        Either<SpilledSequence<String>, SpilledSequence<Integer>> result = IntStream.range(0, 10_000)
+                .mapToObj(SpillingEitherCollectorTest::evensRight)
+                .collect(EitherCollectors.<String, Integer>toRightBiasedSpilling(100, ElementCodec.strings(), INTS, tempDir));
+
+        try (SpilledSequence<Integer> rights = result.getRight()) {
+            assertThat(rights.isSpilled()).isTrue();
+            assertThat(rights.size()).isEqualTo(5_000);
+            assertThat(rights.stream().collect(Collectors.toList()))
+                    .isEqualTo(IntStream.range(0, 10_000).filter(i -> i % 2 == 0).boxed().collect(Collectors.toList()));
+            // Iterating again reads the files again.
+            assertThat(rights.stream().count()).isEqualTo(5_000);
+        }
+        try (Stream<Path> files = Files.list(tempDir)) {
+            assertThat(files.count()).isZero();
+        }
+    }
+
+    @Test
+    public void leftBiasedKeepsLeftsAndDeletesDiscardedRights() throws IOException {
+        Either<SpilledSequence<String>, SpilledSequence<Integer>> result = IntStream.range(0, 1_000)
+                .mapToObj(SpillingEitherCollectorTest::evensRight)
+                .collect(EitherCollectors.<String, Integer>toLeftBiasedSpilling(10, ElementCodec.strings(), INTS, tempDir));
+
+        try (SpilledSequence<String> lefts = result.getLeft()) {
+            assertThat(lefts.size()).isEqualTo(500);
+            assertThat(lefts.iterator().next()).isEqualTo("odd 1");
+            try (Stream<Path> files = Files.list(tempDir)) {
+                assertThat(files.count()).isEqualTo(1);
+            }
+        }
+    }
+
+    @Test
+    public void parallelStreamsKeepEncounterOrder() {
+        List<Integer> expected = IntStream.range(0, 100_000).filter(i -> i % 2 == 0).boxed().collect(Collectors.toList());
+
+        Either<SpilledSequence<String>, SpilledSequence<Integer>> result = IntStream.range(0, 100_000).parallel()
+                .mapToObj(SpillingEitherCollectorTest::evensRight)
+                .collect(EitherCollectors.<String, Integer>toRightBiasedSpilling(1_000, ElementCodec.strings(), INTS, tempDir));
+
+        try (SpilledSequence<Integer> rights = result.getRight()) {
+            List<Integer> actual = new ArrayList<>();
+            rights.forEach(actual::add);
+            assertThat(actual).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    public void emptyStreamIsAnEmptySequence() {
+        Either<SpilledSequence<String>, SpilledSequence<Integer>> result = Stream.<Either<String, Integer>>empty()
+                .collect(EitherCollectors.<String, Integer>toRightBiasedSpilling(10, ElementCodec.strings(), INTS, tempDir));
+
+        assertThat(result.isRight()).isTrue();
+        assertThat(result.getRight().isEmpty()).isTrue();
+    }
+
+    @Test
+    public void closingReleasesIterationsInProgress() throws IOException {
+        SpilledSequence<Integer> rights = IntStream.range(0, 1_000)
+                .mapToObj(i -> Either.<String, Integer>right(i))
+                .collect(EitherCollectors.<String, Integer>toRightBiasedSpilling(10, ElementCodec.strings(), INTS, tempDir))
+                .getRight();
+        Iterator<Integer> iterator = rights.iterator();
+        iterator.next();
+
+        rights.close();
+
+        try (Stream<Path> files = Files.list(tempDir)) {
+            assertThat(files.count()).isZero();
+        }
+        assertThatThrownBy(rights::iterator).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    public void stringCodecRoundTripsNullsAndLongStrings() {
+        StringBuilder longString = new StringBuilder();
+        for (int i = 0; i < 100_000; i++) {
+            longString.append('é');
+        }
+        Either<SpilledSequence<String>, SpilledSequence<Integer>> result = Stream.of(
+                Either.<String, Integer>left(null), Either.<String, Integer>left(longString.toString()), Either.<String, Integer>left("")
+        ).collect(EitherCollectors.<String, Integer>toLeftBiasedSpilling(0, ElementCodec.strings(), INTS, tempDir));
+
+        try (SpilledSequence<String> lefts = result.getLeft()) {
+            assertThat(lefts.isSpilled()).isTrue();
+            assertThat(lefts).containsExactly(null, longString.toString(), "");
+        }
+    }
+}
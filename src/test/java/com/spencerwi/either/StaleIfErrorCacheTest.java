@@ -0,0 +1,264 @@
+package com.spencerwi.either;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("StaleIfErrorCache with Java")
+public class StaleIfErrorCacheTest {
+    private static final Executor INLINE = Runnable::run;
+    private static final Duration REFRESH_AFTER = Duration.ofSeconds(10);
+    private static final Duration EXPIRE_AFTER = Duration.ofSeconds(20);
+    private static final Duration MAX_STALENESS = Duration.ofSeconds(30);
+
+    private final AtomicLong clock = new AtomicLong();
+    private final AtomicInteger loads = new AtomicInteger();
+    private final AtomicBoolean backendUp = new AtomicBoolean(true);
+
+    private StaleIfErrorCache<String, String> cache(Executor refreshExecutor) {
+        return new StaleIfErrorCache<>(
+                key -> {
+                    int load = loads.incrementAndGet();
+                    if (!backendUp.get()) throw new IllegalStateException("backend down");
+                    return key + "#" + load;
+                },
+                refreshExecutor, REFRESH_AFTER, EXPIRE_AFTER, MAX_STALENESS, clock::get
+        );
+    }
+
+    private void advance(Duration duration) {
+        clock.addAndGet(duration.toNanos());
+    }
+
+    @Test
+    public void loadsOnFirstLookupAndServesFromCacheAfterwards() {
+        StaleIfErrorCache<String, String> cache = cache(INLINE);
+
+        assertThat(cache.get("a")).isEqualTo(Result.ok("a#1"));
+        advance(Duration.ofSeconds(5));
+        assertThat(cache.get("a")).isEqualTo(Result.ok("a#1"));
+
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void refreshesInTheBackgroundBeforeExpiry() {
+        List<Runnable> queued = new ArrayList<>();
+        StaleIfErrorCache<String, String> cache = cache(queued::add);
+        cache.get("a");
+        advance(Duration.ofSeconds(15));
+
+        assertThat(cache.get("a")).isEqualTo(Result.ok("a#1"));
+        assertThat(queued).hasSize(1);
+
+        queued.get(0).run();
+
+        assertThat(cache.get("a")).isEqualTo(Result.ok("a#2"));
+        assertThat(cache.getEntry("a").getResult().getAge()).isEqualTo(Duration.ZERO);
+    }
+
+    @Test
+    public void keepsTheOldValueWhenABackgroundRefreshFails() {
+        StaleIfErrorCache<String, String> cache = cache(INLINE);
+        cache.get("a");
+        advance(Duration.ofSeconds(15));
+        backendUp.set(false);
+
+        Result<StaleIfErrorCache.Cached<String>> entry = cache.getEntry("a");
+        assertThat(entry.getResult().getValue()).isEqualTo("a#1");
+
+        StaleIfErrorCache.Cached<String> afterRefresh = cache.getEntry("a").getResult();
+        assertThat(afterRefresh.getValue()).isEqualTo("a#1");
+        assertThat(afterRefresh.isStale()).isFalse();
+        assertThat(afterRefresh.getLastFailure()).hasValueSatisfying(e -> assertThat(e).hasMessage("backend down"));
+    }
+
+    @Test
+    public void reloadsSynchronouslyOnceExpired() {
+        StaleIfErrorCache<String, String> cache = cache(task -> { throw new AssertionError("should not refresh in background"); });
+        cache.get("a");
+        advance(Duration.ofSeconds(25));
+
+        StaleIfErrorCache.Cached<String> entry = cache.getEntry("a").getResult();
+
+        assertThat(entry.getValue()).isEqualTo("a#2");
+        assertThat(entry.isStale()).isFalse();
+    }
+
+    @Test
+    public void servesAStaleValueWhenReloadingAnExpiredOneFails() {
+        StaleIfErrorCache<String, String> cache = cache(INLINE);
+        cache.get("a");
+        backendUp.set(false);
+        advance(Duration.ofSeconds(45));
+
+        StaleIfErrorCache.Cached<String> entry = cache.getEntry("a").getResult();
+
+        assertThat(entry.getValue()).isEqualTo("a#1");
+        assertThat(entry.isStale()).isTrue();
+        assertThat(entry.getAge()).isEqualTo(Duration.ofSeconds(45));
+        assertThat(entry.getLastFailure()).hasValueSatisfying(e -> assertThat(e).hasMessage("backend down"));
+    }
+
+    @Test
+    public void stopsWaitingOnTheBackendOnceAReloadHasFailed() {
+        List<Runnable> queued = new ArrayList<>();
+        StaleIfErrorCache<String, String> cache = cache(queued::add);
+        cache.get("a");
+        backendUp.set(false);
+        advance(Duration.ofSeconds(25));
+        assertThat(cache.get("a")).isEqualTo(Result.ok("a#1"));
+        assertThat(loads.get()).isEqualTo(2);
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(cache.get("a")).isEqualTo(Result.ok("a#1"));
+        }
+
+        // Later lookups only queued background reloads, none of which has run.
+        assertThat(loads.get()).isEqualTo(2);
+        assertThat(queued).isNotEmpty();
+    }
+
+    @Test
+    public void servesAStaleValueWhileAnotherCallerIsReloadingIt() throws Exception {
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger calls = new AtomicInteger();
+        StaleIfErrorCache<String, String> cache = new StaleIfErrorCache<>(
+                key -> {
+                    if (calls.incrementAndGet() > 1) {
+                        entered.countDown();
+                        release.await();
+                    }
+                    return key + "#" + calls.get();
+                },
+                INLINE, REFRESH_AFTER, EXPIRE_AFTER, MAX_STALENESS, clock::get
+        );
+        cache.get("a");
+        advance(Duration.ofSeconds(25));
+        ExecutorService pool = Executors.newSingleThreadExecutor();
+        try {
+            Future<Result<String>> reloading = pool.submit(() -> cache.get("a"));
+            assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+
+            StaleIfErrorCache.Cached<String> entry = cache.getEntry("a").getResult();
+            assertThat(entry.getValue()).isEqualTo("a#1");
+            assertThat(entry.isStale()).isTrue();
+
+            release.countDown();
+            assertThat(reloading.get(5, TimeUnit.SECONDS)).isEqualTo(Result.ok("a#2"));
+        } finally {
+            release.countDown();
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    public void returnsTheFailureOncePastMaxStaleness() {
+        StaleIfErrorCache<String, String> cache = cache(INLINE);
+        cache.get("a");
+        backendUp.set(false);
+        advance(Duration.ofSeconds(51));
+
+        Result<String> result = cache.get("a");
+
+        assertThat(result.isErr()).isTrue();
+        assertThat(result.getException()).isInstanceOf(IllegalStateException.class).hasMessage("backend down");
+    }
+
+    @Test
+    public void recoversOnceTheBackendComesBack() {
+        StaleIfErrorCache<String, String> cache = cache(INLINE);
+        cache.get("a");
+        backendUp.set(false);
+        advance(Duration.ofSeconds(25));
+        cache.get("a");
+        backendUp.set(true);
+        cache.get("a");
+
+        StaleIfErrorCache.Cached<String> entry = cache.getEntry("a").getResult();
+
+        assertThat(entry.getValue()).isEqualTo("a#3");
+        assertThat(entry.isStale()).isFalse();
+        assertThat(entry.getLastFailure()).isEmpty();
+    }
+
+    @Test
+    public void doesNotCacheFailedLoads() {
+        StaleIfErrorCache<String, String> cache = cache(INLINE);
+        backendUp.set(false);
+
+        assertThat(cache.get("a").isErr()).isTrue();
+        assertThat(cache.size()).isZero();
+
+        backendUp.set(true);
+        assertThat(cache.get("a")).isEqualTo(Result.ok("a#2"));
+    }
+
+    @Test
+    public void invalidateForcesAReload() {
+        StaleIfErrorCache<String, String> cache = cache(INLINE);
+        cache.get("a");
+
+        cache.invalidate("a");
+
+        assertThat(cache.get("a")).isEqualTo(Result.ok("a#2"));
+    }
+
+    @Test
+    public void concurrentLoadsOfTheSameKeyShareOneCall() throws Exception {
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger calls = new AtomicInteger();
+        StaleIfErrorCache<String, String> cache = StaleIfErrorCache.of(
+                key -> {
+                    calls.incrementAndGet();
+                    entered.countDown();
+                    release.await();
+                    return key;
+                },
+                INLINE, REFRESH_AFTER, EXPIRE_AFTER, MAX_STALENESS
+        );
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Result<String>>> lookups = new ArrayList<>();
+            lookups.add(pool.submit(() -> cache.get("a")));
+            assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+            for (int i = 0; i < 3; i++) {
+                lookups.add(pool.submit(() -> cache.get("a")));
+            }
+            Thread.sleep(50);
+            release.countDown();
+
+            for (Future<Result<String>> lookup : lookups) {
+                assertThat(lookup.get(5, TimeUnit.SECONDS)).isEqualTo(Result.ok("a"));
+            }
+            assertThat(calls.get()).isEqualTo(1);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    public void rejectsInconsistentDurations() {
+        assertThatThrownBy(() -> StaleIfErrorCache.of(key -> key, INLINE, EXPIRE_AFTER, REFRESH_AFTER, MAX_STALENESS))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> StaleIfErrorCache.of(key -> key, INLINE, REFRESH_AFTER, EXPIRE_AFTER, Duration.ofSeconds(-1)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
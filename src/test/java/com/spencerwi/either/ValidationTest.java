@@ -0,0 +1,93 @@
+package com.spencerwi.either;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Validation with Java")
+public class ValidationTest {
+    private final Validation<String, String, String> usernameRules = Validation.of(
+            name -> name.length() >= 3 ? Either.right(name) : Either.left("too short"),
+            name -> name.chars().allMatch(Character::isLetterOrDigit) ? Either.right(name) : Either.left("invalid characters"),
+            name -> name.equals("admin") ? Either.left("reserved") : Either.right(name.toLowerCase())
+    );
+    private ExecutorService executor;
+
+    @BeforeEach
+    public void startExecutor(){
+        executor = Executors.newFixedThreadPool(4);
+    }
+
+    @AfterEach
+    public void stopExecutor(){
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void returnsEveryRulesValueWhenAllPass(){
+        assertThat(usernameRules.validate("Alice")).isEqualTo(Either.right(Arrays.asList("Alice", "Alice", "alice")));
+    }
+
+    @Test
+    public void accumulatesEveryViolationInRuleOrder(){
+        assertThat(usernameRules.validate("a!")).isEqualTo(Either.left(Arrays.asList("too short", "invalid characters")));
+    }
+
+    @Test
+    public void givesTheSameAnswerInParallel(){
+        assertThat(usernameRules.validate("Alice", executor)).isEqualTo(usernameRules.validate("Alice"));
+        assertThat(usernameRules.validate("a!", executor)).isEqualTo(usernameRules.validate("a!"));
+    }
+
+    @Test
+    public void runsRulesConcurrentlyOnTheExecutor(){
+        CountDownLatch allStarted = new CountDownLatch(3);
+        Validation<Integer, String, Integer> slowRules = Validation.of(
+                x -> awaitOthers(allStarted, x),
+                x -> awaitOthers(allStarted, x + 1),
+                x -> awaitOthers(allStarted, x + 2)
+        );
+
+        assertThat(slowRules.validate(0, executor)).isEqualTo(Either.right(Arrays.asList(0, 1, 2)));
+    }
+
+    private static Either<String, Integer> awaitOthers(CountDownLatch allStarted, int value){
+        allStarted.countDown();
+        try {
+            return allStarted.await(5, TimeUnit.SECONDS) ? Either.right(value) : Either.left("ran serially");
+        } catch (InterruptedException e) {
+            return Either.left("interrupted");
+        }
+    }
+
+    @Test
+    public void passesWhenThereAreNoRules(){
+        Validation<String, String, String> noRules = Validation.of();
+
+        Either<List<String>, List<String>> result = noRules.validate("anything");
+        assertThat(result.isRight()).isTrue();
+        assertThat(result.getRight()).isEmpty();
+    }
+
+    @Test
+    public void rethrowsExceptionsFromParallelRules(){
+        Validation<String, String, String> brokenRules = Validation.of(
+                name -> { throw new IllegalStateException("rule is broken"); }
+        );
+
+        assertThatThrownBy(() -> brokenRules.validate("Alice", executor))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("rule is broken");
+    }
+}
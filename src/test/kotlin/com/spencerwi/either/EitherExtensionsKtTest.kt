@@ -0,0 +1,41 @@
+package com.spencerwi.either
+
+import org.assertj.core.api.Java6Assertions.assertThat
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+
+@DisplayName("Either inline extensions with Kotlin")
+class EitherExtensionsKtTest {
+    private val left: Either<String, Int> = Either.left("nope")
+    private val right: Either<String, Int> = Either.right(42)
+
+    @Test
+    fun `foldInline runs the transformation for the side that is present`() {
+        assertThat(left.foldInline({ "L$it" }, { "R$it" })).isEqualTo("Lnope")
+        assertThat(right.foldInline({ "L$it" }, { "R$it" })).isEqualTo("R42")
+    }
+
+    @Test
+    fun `mapLeftInline and mapRightInline only transform their own side`() {
+        assertThat(left.mapLeftInline { it.length }).isEqualTo(Either.left<Int, Int>(4))
+        assertThat(right.mapLeftInline { it.length }).isEqualTo(Either.right<Int, Int>(42))
+        assertThat(left.mapRightInline { it * 2 }).isEqualTo(Either.left<String, Int>("nope"))
+        assertThat(right.mapRightInline { it * 2 }).isEqualTo(Either.right<String, Int>(84))
+    }
+
+    @Test
+    fun `flatMapLeftInline and flatMapRightInline only transform their own side`() {
+        assertThat(left.flatMapLeftInline { Either.right<String, Int>(0) }).isEqualTo(Either.right<String, Int>(0))
+        assertThat(right.flatMapLeftInline { Either.right<String, Int>(0) }).isEqualTo(right)
+        assertThat(left.flatMapRightInline { Either.right<String, Int>(it + 1) }).isEqualTo(left)
+        assertThat(right.flatMapRightInline { Either.left<String, Int>("too big") }).isEqualTo(Either.left<String, Int>("too big"))
+    }
+
+    @Test
+    fun `getOrElse and recover fall back only for a Left`() {
+        assertThat(left.getOrElse { it.length }).isEqualTo(4)
+        assertThat(right.getOrElse { it.length }).isEqualTo(42)
+        assertThat(left.recover { it.length }).isEqualTo(Either.right<String, Int>(4))
+        assertThat(right.recover { it.length }).isEqualTo(right)
+    }
+}
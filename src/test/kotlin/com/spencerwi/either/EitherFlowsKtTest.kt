@@ -0,0 +1,58 @@
+package com.spencerwi.either
+
+import kotlinx.coroutines.flow.flow
+import kotlinx.coroutines.flow.flowOf
+import kotlinx.coroutines.flow.toList
+import kotlinx.coroutines.launch
+import kotlinx.coroutines.runBlocking
+import org.assertj.core.api.Java6Assertions.assertThat
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+
+@DisplayName("Either Flow operators with Kotlin")
+class EitherFlowsKtTest {
+    private fun left(value: String): Either<String, Int> = Either.left(value)
+    private fun right(value: Int): Either<String, Int> = Either.right(value)
+
+    @Test
+    fun `splitIn routes each side to its own channel`() = runBlocking<Unit> {
+        val (lefts, rights) = flowOf(right(1), left("a"), right(2), left("b"), right(3)).splitIn(this)
+
+        val leftValues = mutableListOf<String>()
+        val rightValues = mutableListOf<Int>()
+        val drainLefts = launch { for (value in lefts) leftValues.add(value) }
+        for (value in rights) rightValues.add(value)
+        drainLefts.join()
+
+        assertThat(rightValues).containsExactly(1, 2, 3)
+        assertThat(leftValues).containsExactly("a", "b")
+    }
+
+    @Test
+    fun `sequence stops at the first Left`() = runBlocking<Unit> {
+        var emitted = 0
+        val flow = flow {
+            for (either in listOf(right(1), left("a"), right(2))) {
+                emitted++
+                emit(either)
+            }
+        }
+
+        assertThat(flow.sequence()).isEqualTo(Either.left<String, List<Int>>("a"))
+        assertThat(emitted).isEqualTo(2)
+        assertThat(flowOf(right(1), right(2)).sequence()).isEqualTo(Either.right<String, List<Int>>(listOf(1, 2)))
+    }
+
+    @Test
+    fun `batchRights groups Rights and preserves order around Lefts`() = runBlocking<Unit> {
+        val batches = flowOf(right(1), right(2), right(3), left("a"), right(4), right(5), right(6)).batchRights(2).toList()
+
+        assertThat(batches).containsExactly(
+            Either.right(listOf(1, 2)),
+            Either.right(listOf(3)),
+            Either.left("a"),
+            Either.right(listOf(4, 5)),
+            Either.right(listOf(6))
+        )
+    }
+}
@@ -0,0 +1,75 @@
+package com.spencerwi.either
+
+import kotlinx.coroutines.cancelAndJoin
+import kotlinx.coroutines.delay
+import kotlinx.coroutines.launch
+import kotlinx.coroutines.runBlocking
+import kotlinx.coroutines.withTimeoutOrNull
+import org.assertj.core.api.Java6Assertions.assertThat
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.TimeUnit
+
+@DisplayName("Result coroutine extensions with Kotlin")
+class ResultCoroutinesKtTest {
+    private val failure = IllegalStateException("Error! Failed!")
+
+    @Test
+    fun `attemptSuspending wraps return values and exceptions`() = runBlocking<Unit> {
+        assertThat(attemptSuspending { delay(1); 42 }).isEqualTo(Result.ok(42))
+        assertThat(attemptSuspending<Int> { delay(1); throw failure }).isEqualTo(Result.err<Int>(failure))
+    }
+
+    @Test
+    fun `attemptSuspending does not swallow cancellation`() = runBlocking<Unit> {
+        var result: Result<Int>? = null
+        val job = launch { result = attemptSuspending { delay(10_000); 42 } }
+        delay(10)
+        job.cancelAndJoin()
+
+        assertThat(job.isCancelled).isTrue()
+        assertThat(result).isNull()
+    }
+
+    @Test
+    fun `attemptBlocking interrupts the blocking supplier when cancelled`() = runBlocking<Unit> {
+        val interrupted = CountDownLatch(1)
+        val result = withTimeoutOrNull(50) {
+            attemptBlocking(supplier = ExceptionThrowingSupplier {
+                try {
+                    Thread.sleep(10_000)
+                } catch (e: InterruptedException) {
+                    interrupted.countDown()
+                    throw e
+                }
+                42
+            })
+        }
+
+        assertThat(result).isNull()
+        assertThat(interrupted.await(1, TimeUnit.SECONDS)).isTrue()
+    }
+
+    @Test
+    fun `mapSuspending and flatMapSuspending capture exceptions in an Err`() = runBlocking<Unit> {
+        val ok: Result<Int> = Result.ok(21)
+        val err: Result<Int> = Result.err(failure)
+
+        assertThat(ok.mapSuspending { delay(1); it * 2 }).isEqualTo(Result.ok(42))
+        assertThat(ok.mapSuspending<Int, Int> { throw failure }).isEqualTo(err)
+        assertThat(err.mapSuspending { it * 2 }).isEqualTo(err)
+        assertThat(ok.flatMapSuspending { Result.ok(it * 2) }).isEqualTo(Result.ok(42))
+        assertThat(ok.flatMapSuspending<Int, Int> { throw failure }).isEqualTo(err)
+    }
+
+    @Test
+    fun `attemptAll runs every element and keeps failures in place`() = runBlocking<Unit> {
+        val results = listOf(1, 2, 3).attemptAll {
+            delay(10L * (4 - it))
+            if (it == 2) throw failure else it * 10
+        }
+
+        assertThat(results).containsExactly(Result.ok(10), Result.err(failure), Result.ok(30))
+    }
+}
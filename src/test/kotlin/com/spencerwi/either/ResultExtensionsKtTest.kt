@@ -0,0 +1,57 @@
+package com.spencerwi.either
+
+import org.assertj.core.api.Assertions.assertThatThrownBy
+import org.assertj.core.api.Java6Assertions.assertThat
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+
+@DisplayName("Result inline extensions with Kotlin")
+class ResultExtensionsKtTest {
+    private val failure = IllegalStateException("Error! Failed!")
+    private val err: Result<Int> = Result.err(failure)
+    private val ok: Result<Int> = Result.ok(42)
+
+    @Test
+    fun `resultOf wraps return values and exceptions like attempt`() {
+        assertThat(resultOf { 1 + 1 }).isEqualTo(Result.ok(2))
+        assertThat(resultOf<Int> { throw failure }).isEqualTo(Result.err<Int>(failure))
+    }
+
+    @Test
+    fun `converts to and from runCatching`() {
+        assertThat(runCatching { 42 }.toResult()).isEqualTo(ok)
+        assertThat(runCatching<Int> { throw failure }.toResult()).isEqualTo(err)
+        assertThat(runCatching { ok.getOrThrow() }.getOrNull()).isEqualTo(42)
+        assertThat(runCatching { err.getOrThrow() }.exceptionOrNull()).isEqualTo(failure)
+    }
+
+    @Test
+    fun `toResult rethrows throwables that are not exceptions`() {
+        val error = AssertionError("not an exception")
+        assertThatThrownBy { runCatching<Int> { throw error }.toResult() }.isEqualTo(error)
+    }
+
+    @Test
+    fun `foldInline runs the transformation for the side that is present`() {
+        assertThat(err.foldInline({ it.message }, { it.toString() })).isEqualTo("Error! Failed!")
+        assertThat(ok.foldInline({ it.message }, { it.toString() })).isEqualTo("42")
+    }
+
+    @Test
+    fun `mapInline and flatMapInline capture exceptions in an Err`() {
+        assertThat(ok.mapInline { it * 2 }).isEqualTo(Result.ok(84))
+        assertThat(ok.mapInline<Int, Int> { throw failure }).isEqualTo(err)
+        assertThat(err.mapInline { it * 2 }).isEqualTo(err)
+        assertThat(ok.flatMapInline { Result.ok(it * 2) }).isEqualTo(Result.ok(84))
+        assertThat(ok.flatMapInline<Int, Int> { throw failure }).isEqualTo(err)
+        assertThat(err.flatMapInline { Result.ok(it * 2) }).isEqualTo(err)
+    }
+
+    @Test
+    fun `getOrElseInline and recover fall back only for an Err`() {
+        assertThat(err.getOrElseInline { -1 }).isEqualTo(-1)
+        assertThat(ok.getOrElseInline { -1 }).isEqualTo(42)
+        assertThat(err.recover { -1 }).isEqualTo(Result.ok(-1))
+        assertThat(ok.recover { -1 }).isEqualTo(ok)
+    }
+}